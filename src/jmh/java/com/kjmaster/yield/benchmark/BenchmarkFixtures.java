@@ -0,0 +1,123 @@
+package com.kjmaster.yield.benchmark;
+
+import com.kjmaster.yield.project.ProjectGoal;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Shared setup for the benchmarks.
+ * Benchmarks run inside the FML JUnit environment (see {@link BenchmarkLauncher}), which has already bootstrapped
+ * the registries. There is no world, so a few item tags are bound by hand, since tags are normally only populated by
+ * a datapack reload.
+ */
+public final class BenchmarkFixtures {
+
+    // Items the generated inventories are drawn from
+    private static final Item[] PALETTE = {
+            Items.COBBLESTONE, Items.DIRT, Items.OAK_LOG, Items.BIRCH_LOG, Items.SPRUCE_LOG,
+            Items.IRON_ORE, Items.COAL_ORE, Items.DIAMOND, Items.IRON_INGOT, Items.REDSTONE,
+            Items.DIAMOND_PICKAXE, Items.IRON_SWORD, Items.TORCH, Items.BREAD, Items.OAK_PLANKS
+    };
+
+    private static boolean bootstrapped = false;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static synchronized void bootstrap() {
+        if (bootstrapped) return;
+        BuiltInRegistries.ITEM.bindTags(Map.of(
+                ItemTags.LOGS, holders(Items.OAK_LOG, Items.BIRCH_LOG, Items.SPRUCE_LOG),
+                ItemTags.PLANKS, holders(Items.OAK_PLANKS),
+                ItemTags.IRON_ORES, holders(Items.IRON_ORE),
+                ItemTags.COAL_ORES, holders(Items.COAL_ORE)
+        ));
+        bootstrapped = true;
+    }
+
+    private static List<Holder<Item>> holders(Item... items) {
+        List<Holder<Item>> holders = new ArrayList<>(items.length);
+        for (Item item : items) {
+            holders.add(item.builtInRegistryHolder());
+        }
+        return holders;
+    }
+
+    /**
+     * Builds a deterministic inventory. Roughly one stack in four carries a component patch.
+     */
+    public static List<ItemStack> inventory(int size, long seed) {
+        Random random = new Random(seed);
+        List<ItemStack> stacks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Item item = PALETTE[random.nextInt(PALETTE.length)];
+            ItemStack stack = new ItemStack(item, 1 + random.nextInt(item.getDefaultMaxStackSize()));
+            if (random.nextInt(4) == 0) {
+                decorate(stack, random);
+            }
+            stacks.add(stack);
+        }
+        return stacks;
+    }
+
+    public static void decorate(ItemStack stack, Random random) {
+        stack.set(DataComponents.CUSTOM_NAME, Component.literal("Stack " + random.nextInt(16)));
+        stack.set(DataComponents.REPAIR_COST, random.nextInt(4));
+    }
+
+    public static ProjectGoal fuzzyGoal(Item item) {
+        return new ProjectGoal(item, 64);
+    }
+
+    /**
+     * A strict goal on a named pickaxe that ignores damage, the common "track my tools" setup.
+     */
+    public static ProjectGoal strictGoal() {
+        ItemStack template = new ItemStack(Items.DIAMOND_PICKAXE);
+        template.set(DataComponents.CUSTOM_NAME, Component.literal("Stack 3"));
+        return new ProjectGoal(
+                UUID.randomUUID(),
+                Items.DIAMOND_PICKAXE,
+                1,
+                true,
+                Optional.of(template.getComponentsPatch()),
+                Optional.empty(),
+                List.of(BuiltInRegistries.DATA_COMPONENT_TYPE.getKey(DataComponents.DAMAGE))
+        );
+    }
+
+    public static ProjectGoal tagGoal(TagKey<Item> tag) {
+        return new ProjectGoal(UUID.randomUUID(), Items.OAK_LOG, 256, false, Optional.empty(), Optional.of(tag));
+    }
+
+    /**
+     * Builds a project-like goal list mixing fuzzy, strict and tag goals.
+     */
+    public static List<ProjectGoal> goals(int count, long seed) {
+        Random random = new Random(seed);
+        List<TagKey<Item>> tags = List.of(ItemTags.LOGS, ItemTags.PLANKS, ItemTags.IRON_ORES, ItemTags.COAL_ORES);
+        List<ProjectGoal> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            switch (i % 5) {
+                case 3 -> goals.add(strictGoal());
+                case 4 -> goals.add(tagGoal(tags.get(random.nextInt(tags.size()))));
+                default -> goals.add(fuzzyGoal(PALETTE[random.nextInt(PALETTE.length)]));
+            }
+        }
+        return goals;
+    }
+}
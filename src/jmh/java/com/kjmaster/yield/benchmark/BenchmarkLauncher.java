@@ -0,0 +1,29 @@
+package com.kjmaster.yield.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code ./gradlew test -Pbenchmark}.
+ * The FML JUnit environment boots the game and NeoForge's patched registries for this JVM only, so the benchmarks
+ * run in-process: a forked JMH worker would start without FML.
+ */
+public class BenchmarkLauncher {
+
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("yield.jmh.includes", ".*"))
+                .forks(0)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("yield.jmh.results", "jmh-results.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
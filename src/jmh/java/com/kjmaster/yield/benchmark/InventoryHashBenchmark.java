@@ -0,0 +1,51 @@
+package com.kjmaster.yield.benchmark;
+
+import com.kjmaster.yield.tracker.InventoryMonitor;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one polling pass of the capability and Curios watchers.
+ * Both hash their handler through {@link InventoryMonitor#hashContents}, so a plain handler stands in for either.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventoryHashBenchmark {
+
+    // 41 = Vanilla player inventory, larger values approximate modded inventories and curios
+    @Param({"41", "200", "1000"})
+    public int slots;
+
+    private ItemStackHandler handler;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        handler = new ItemStackHandler(slots);
+        List<ItemStack> stacks = BenchmarkFixtures.inventory(slots, 7L);
+        // Leave every third slot empty, like a half-used inventory
+        for (int i = 0; i < slots; i++) {
+            if (i % 3 != 0) {
+                handler.setStackInSlot(i, stacks.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public long hashContents() {
+        return InventoryMonitor.hashContents(handler);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kjmaster.yield.benchmark;
+
+import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.util.ItemMatcher;
+import com.kjmaster.yield.util.StrictMatcher;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single {@link ItemMatcher#matches} call per matching mode, averaged over a mixed inventory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemMatcherBenchmark {
+
+    private static final int STACKS = 256;
+
+    @Param({"FUZZY", "STRICT", "TAG"})
+    public String mode;
+
+    private ProjectGoal goal;
+    private StrictMatcher strictMatcher;
+    private ItemStack[] stacks;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        goal = switch (mode) {
+            case "STRICT" -> BenchmarkFixtures.strictGoal();
+            case "TAG" -> BenchmarkFixtures.tagGoal(ItemTags.LOGS);
+            default -> BenchmarkFixtures.fuzzyGoal(Items.DIAMOND_PICKAXE);
+        };
+        strictMatcher = goal.strict() ? StrictMatcher.compile(goal) : null;
+
+        List<ItemStack> inventory = BenchmarkFixtures.inventory(STACKS, 42L);
+        stacks = inventory.toArray(new ItemStack[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STACKS)
+    public void matches(Blackhole bh) {
+        for (ItemStack stack : stacks) {
+            bh.consume(ItemMatcher.matches(stack, goal));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STACKS)
+    public void matchesPrecompiled(Blackhole bh) {
+        for (ItemStack stack : stacks) {
+            bh.consume(ItemMatcher.matches(stack, goal, strictMatcher));
+        }
+    }
+}
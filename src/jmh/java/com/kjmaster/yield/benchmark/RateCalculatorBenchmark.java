@@ -0,0 +1,77 @@
+package com.kjmaster.yield.benchmark;
+
+import com.kjmaster.yield.project.RateMode;
+import com.kjmaster.yield.time.TimeSource;
+import com.kjmaster.yield.tracker.RateEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording gains and reading the rate per estimator mode, with time advancing one game tick per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateCalculatorBenchmark {
+
+    @Param({"WINDOW", "EWMA"})
+    public RateMode mode;
+
+    @Param({"60", "300"})
+    public int windowSeconds;
+
+    private ManualTimeSource time;
+    private RateEstimator calculator;
+
+    @Setup
+    public void setup() {
+        time = new ManualTimeSource();
+        calculator = RateEstimator.create(mode, windowSeconds, time);
+        // Fill the window so reads see a populated ring
+        for (int i = 0; i < windowSeconds * 20; i++) {
+            time.advance();
+            calculator.addGain(1);
+        }
+    }
+
+    @Benchmark
+    public void addGain() {
+        time.advance();
+        calculator.addGain(3);
+    }
+
+    @Benchmark
+    public double getItemsPerHour() {
+        time.advance();
+        return calculator.getItemsPerHour();
+    }
+
+    /**
+     * Deterministic time that moves forward by one tick per call to {@link #advance()}.
+     */
+    static class ManualTimeSource implements TimeSource {
+        private long ticks = 0;
+
+        void advance() {
+            ticks++;
+        }
+
+        @Override
+        public double getTimeSeconds() {
+            return ticks / 20.0;
+        }
+
+        @Override
+        public void reset() {
+            ticks = 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.benchmark.BenchmarkFixtures;
+import com.kjmaster.yield.service.InventoryScanner;
+import com.kjmaster.yield.service.ProviderSnapshot;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of matching one full snapshot, the work {@link TrackerEngine} does per full scan.
+ * Lives in the tracker package to reach the package-private matching entry point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchingBenchmark {
+
+    @Param({"41", "300", "2000"})
+    public int stacks;
+
+    @Param({"5", "50", "200"})
+    public int goals;
+
+    private List<ProviderSnapshot> snapshot;
+    private GoalMatcherIndex index;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        // One stack per slot, captured the same way InventoryScanner does
+        ProviderSnapshot.Builder builder = new ProviderSnapshot.Builder();
+        for (ItemStack stack : BenchmarkFixtures.inventory(stacks, 42L)) {
+            builder.beginSlot(InventoryScanner.fingerprint(stack));
+            builder.accept(stack);
+        }
+
+        snapshot = List.of(builder.build());
+        index = GoalMatcherIndex.compile(BenchmarkFixtures.goals(goals, 42L));
+    }
+
+    @Benchmark
+    public void performMatching(Blackhole bh) {
+        // Slot tables are package-private, so they go straight into the blackhole
+        bh.consume(TrackerEngine.performMatching(snapshot, index));
+    }
+
+    @Benchmark
+    public GoalMatcherIndex compileIndex() {
+        return GoalMatcherIndex.compile(index.goals());
+    }
+}
@@ -14,6 +14,18 @@ public class Config {
 
     // Tracker Settings
     public static final ModConfigSpec.IntValue RATE_WINDOW;
+    public static final ModConfigSpec.BooleanValue INCREMENTAL_SCAN;
+    public static final ModConfigSpec.IntValue FULL_RESCAN_INTERVAL;
+    public static final ModConfigSpec.IntValue INLINE_MATCH_THRESHOLD;
+    public static final ModConfigSpec.BooleanValue EVENT_DRIVEN_DIRTY;
+    public static final ModConfigSpec.IntValue FALLBACK_POLL_INTERVAL;
+    public static final ModConfigSpec.IntValue NESTED_SCAN_DEPTH;
+    public static final ModConfigSpec.IntValue NESTED_SCAN_MAX_SLOTS;
+    public static final ModConfigSpec.IntValue NESTED_SCAN_TIME_BUDGET;
+    public static final ModConfigSpec.IntValue SCAN_SLOTS_PER_TICK;
+    public static final ModConfigSpec.IntValue SCAN_TICK_BUDGET;
+    public static final ModConfigSpec.BooleanValue METRICS_ENABLED;
+    public static final ModConfigSpec.BooleanValue BINARY_STORAGE;
 
     static {
         BUILDER.push("hud");
@@ -42,6 +54,54 @@ public class Config {
                 .comment("The time window (in seconds) for rate calculation. Lower values update faster but fluctuate more.")
                 .defineInRange("rateWindow", 15, 1, 300);
 
+        INCREMENTAL_SCAN = BUILDER
+                .comment("Only re-match inventory slots that changed since the last scan, instead of rescanning everything.")
+                .define("incrementalScan", true);
+
+        FULL_RESCAN_INTERVAL = BUILDER
+                .comment("The interval (in seconds) between full inventory rescans when incremental scanning is enabled. Acts as a consistency check.")
+                .defineInRange("fullRescanInterval", 30, 5, 600);
+
+        INLINE_MATCH_THRESHOLD = BUILDER
+                .comment("Full scans with less estimated work (stacks x goals) than this are matched directly on the client thread instead of asynchronously. 0 always matches asynchronously.")
+                .defineInRange("inlineMatchThreshold", 4096, 0, 1_000_000);
+
+        EVENT_DRIVEN_DIRTY = BUILDER
+                .comment("Detect inventory changes from pickup, crafting, toss, container and Curios events. Slot hashing then only runs as a fallback.")
+                .define("eventDrivenDirty", true);
+
+        FALLBACK_POLL_INTERVAL = BUILDER
+                .comment("The interval (in ticks) between fallback slot hashing passes when event-driven detection is enabled. Curios slots are still polled every 10 ticks on a dedicated server, where Curios events don't reach the client.")
+                .defineInRange("fallbackPollInterval", 100, 10, 1200);
+
+        NESTED_SCAN_DEPTH = BUILDER
+                .comment("How many levels of nested containers (backpacks inside backpacks) are scanned. 0 scans top-level stacks only.")
+                .defineInRange("nestedScanDepth", 1, 0, 8);
+
+        NESTED_SCAN_MAX_SLOTS = BUILDER
+                .comment("The maximum number of nested container slots visited per scan. Containers beyond the limit reuse their last scanned contents.")
+                .defineInRange("nestedScanMaxSlots", 4096, 64, 1_000_000);
+
+        NESTED_SCAN_TIME_BUDGET = BUILDER
+                .comment("The time budget (in microseconds) for walking nested containers per scan. Containers beyond the budget reuse their last scanned contents.")
+                .defineInRange("nestedScanTimeBudget", 2000, 100, 50_000);
+
+        SCAN_SLOTS_PER_TICK = BUILDER
+                .comment("The maximum number of top-level slots a full scan captures per tick before continuing on the next tick. 0 captures every slot in a single tick.")
+                .defineInRange("scanSlotsPerTick", 256, 0, 1_000_000);
+
+        SCAN_TICK_BUDGET = BUILDER
+                .comment("The time budget (in microseconds) a full scan may spend capturing slots per tick before continuing on the next tick.")
+                .defineInRange("scanTickBudget", 1000, 100, 50_000);
+
+        METRICS_ENABLED = BUILDER
+                .comment("Whether scan and render timings are recorded. View them with '/yield metrics'. Off by default, since timing adds clock reads to every scan and frame.")
+                .define("metricsEnabled", false);
+
+        BINARY_STORAGE = BUILDER
+                .comment("Store projects in a compact binary format with an index, so goal lists are only decoded when a project is opened. Existing JSON projects are converted on their next save.")
+                .define("binaryProjectStorage", false);
+
         SPEC = BUILDER.build();
     }
 
@@ -1,8 +1,11 @@
 package com.kjmaster.yield;
 
 import com.kjmaster.yield.client.YieldOverlay;
+import com.kjmaster.yield.compat.curios.CuriosEventHandler;
 import com.kjmaster.yield.domain.GoalDomainService;
+import com.kjmaster.yield.event.YieldCommandHandler;
 import com.kjmaster.yield.event.YieldInputHandler;
+import com.kjmaster.yield.event.YieldInventoryHandler;
 import com.kjmaster.yield.event.YieldLogicHandler;
 import com.kjmaster.yield.event.internal.YieldEventBus;
 import com.kjmaster.yield.manager.ProjectManager;
@@ -13,6 +16,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
+import net.neoforged.fml.ModList;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
@@ -62,9 +66,16 @@ public class Yield {
         // 5. Wire Handlers using the Registry
         YieldLogicHandler logicHandler = new YieldLogicHandler(services);
         YieldInputHandler inputHandler = new YieldInputHandler(services);
+        YieldInventoryHandler inventoryHandler = new YieldInventoryHandler(services);
 
         NeoForge.EVENT_BUS.register(logicHandler);
         NeoForge.EVENT_BUS.register(inputHandler);
+        NeoForge.EVENT_BUS.register(inventoryHandler);
+        NeoForge.EVENT_BUS.register(new YieldCommandHandler());
+
+        if (ModList.get().isLoaded("curios")) {
+            NeoForge.EVENT_BUS.register(new CuriosEventHandler(inventoryHandler));
+        }
 
         // 6. Initial Data Load
         services.projectManager().load();
@@ -42,7 +42,8 @@ public interface IProjectController {
     void save();
 
     /**
-     * Loads projects from disk.
+     * Loads projects from disk in the background.
+     * The result is published on the main thread, see {@link IProjectProvider#isLoading()}.
      */
     void load();
 }
\ No newline at end of file
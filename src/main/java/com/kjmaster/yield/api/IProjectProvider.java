@@ -20,6 +20,15 @@ public interface IProjectProvider {
      */
     List<YieldProject> getProjects();
 
+    /**
+     * Checks if projects are still being read from disk.
+     * While loading, the project list is incomplete and no project is active;
+     * a ProjectListChanged event is posted once loading completes.
+     *
+     * @return true while a load is in progress.
+     */
+    boolean isLoading();
+
     /**
      * Checks if the last save attempt failed.
      *
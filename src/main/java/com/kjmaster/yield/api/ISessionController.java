@@ -15,9 +15,18 @@ public interface ISessionController {
 
     /**
      * Marks the inventory state as dirty, forcing a re-scan on the next tick.
+     * Safe to call from any thread (e.g. event handlers running on the integrated server).
      */
     void setDirty();
 
+    /**
+     * Marks a single inventory provider as dirty, so only its contents are re-scanned on the next tick.
+     * Safe to call from any thread.
+     *
+     * @param providerId The provider's {@link com.kjmaster.yield.service.IInventoryProvider#getId() ID}.
+     */
+    void setDirty(String providerId);
+
     /**
      * Tick handler to update tracking logic.
      *
@@ -26,6 +26,16 @@ public interface ISessionStatus {
      */
     GoalTracker getTracker(ProjectGoal goal);
 
+    /**
+     * Retrieves or creates a tracker for a specific goal, using the goal's list position as a lookup hint.
+     * Callers iterating a project's goal list in order resolve in constant time without hashing.
+     *
+     * @param goal     The project goal to track.
+     * @param slotHint The goal's index in its project's goal list, or -1 if unknown.
+     * @return The GoalTracker instance.
+     */
+    GoalTracker getTracker(ProjectGoal goal, int slotHint);
+
     /**
      * Gets the current calculated XP per hour.
      *
@@ -0,0 +1,168 @@
+package com.kjmaster.yield.client;
+
+import com.kjmaster.yield.project.ProjectGoal;
+import net.minecraft.client.gui.Font;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Render-thread cache backing {@link YieldOverlay}.
+ * Holds icon stacks and pre-formatted strings so the per-frame path does no formatting or ItemStack allocation.
+ * Strings are only rebuilt when the underlying value (count, rate, time, name) actually changes.
+ */
+class OverlayRenderCache {
+
+    // Goal Rows (Aligned with the goal list they were built for)
+    private List<ProjectGoal> boundGoals;
+    private GoalModel[] goalModels = new GoalModel[0];
+
+    // Header Row
+    private long timeSecs = -1;
+    private String timeText = "";
+    private int timeWidth = 0;
+
+    private static final String HEADER_PREFIX = "Project: ";
+    private int prefixWidth = -1;
+
+    private String headerName;
+    private boolean headerPaused;
+    private int headerMaxWidth = Integer.MIN_VALUE;
+    private String headerText = "";
+
+    // XP Row
+    private int xpRate = -1;
+    private String xpRateText = "";
+    private int xpRateWidth = 0;
+
+    /**
+     * Returns one model per goal, index-aligned with {@code goals}.
+     * Models are carried over for goal instances that are unchanged since the last call.
+     */
+    GoalModel[] getGoalModels(List<ProjectGoal> goals) {
+        if (goals == boundGoals) return goalModels;
+
+        Map<ProjectGoal, GoalModel> previous = new IdentityHashMap<>();
+        for (GoalModel model : goalModels) {
+            previous.put(model.goal, model);
+        }
+
+        GoalModel[] models = new GoalModel[goals.size()];
+        for (int i = 0; i < models.length; i++) {
+            ProjectGoal goal = goals.get(i);
+            GoalModel reused = previous.get(goal);
+            models[i] = reused != null ? reused : new GoalModel(goal);
+        }
+
+        this.boundGoals = goals;
+        this.goalModels = models;
+        return models;
+    }
+
+    String getTimeText(long durationSecs, Font font) {
+        if (durationSecs != timeSecs) {
+            timeSecs = durationSecs;
+            timeText = String.format("%02d:%02d", durationSecs / 60, durationSecs % 60);
+            timeWidth = font.width(timeText);
+        }
+        return timeText;
+    }
+
+    int getTimeWidth() {
+        return timeWidth;
+    }
+
+    int getPrefixWidth(Font font) {
+        if (prefixWidth < 0) {
+            prefixWidth = font.width(HEADER_PREFIX);
+        }
+        return prefixWidth;
+    }
+
+    String getHeaderText(String name, boolean isPaused, int maxNameWidth, Font font) {
+        if (!name.equals(headerName) || isPaused != headerPaused || maxNameWidth != headerMaxWidth) {
+            headerName = name;
+            headerPaused = isPaused;
+            headerMaxWidth = maxNameWidth;
+
+            String display = isPaused ? name + " (Paused)" : name;
+            if (maxNameWidth > 10) {
+                if (font.width(display) > maxNameWidth) {
+                    display = font.plainSubstrByWidth(display, maxNameWidth - font.width("...")) + "...";
+                }
+                headerText = HEADER_PREFIX + display;
+            } else {
+                headerText = "Project";
+            }
+        }
+        return headerText;
+    }
+
+    String getXpRateText(int rate, Font font) {
+        if (rate != xpRate) {
+            xpRate = rate;
+            xpRateText = rate + " XP/h";
+            xpRateWidth = font.width(xpRateText);
+        }
+        return xpRateText;
+    }
+
+    int getXpRateWidth() {
+        return xpRateWidth;
+    }
+
+    /**
+     * Cached render state of a single goal row.
+     */
+    static class GoalModel {
+        final ProjectGoal goal;
+        final ItemStack icon;
+
+        private int count = Integer.MIN_VALUE;
+        private double rate = Double.NaN;
+
+        String progressText = "";
+        // Null when there is no rate to show
+        String rightText;
+        int rightTextWidth;
+
+        GoalModel(ProjectGoal goal) {
+            this.goal = goal;
+            this.icon = goal.getRenderStack();
+        }
+
+        /**
+         * Rebuilds the strings only if the tracker's count or rate changed since the last frame.
+         */
+        void refresh(int currentCount, double itemsPerHour, Font font) {
+            if (currentCount == count && itemsPerHour == rate) return;
+            this.count = currentCount;
+            this.rate = itemsPerHour;
+
+            this.progressText = currentCount + "/" + goal.targetAmount();
+
+            if (itemsPerHour > 0) {
+                int remaining = Math.max(0, goal.targetAmount() - currentCount);
+                if (remaining > 0) {
+                    String eta = formatEta(remaining / itemsPerHour);
+                    this.rightText = String.format("%.0f/h (%s)", itemsPerHour, eta);
+                } else {
+                    this.rightText = String.format("%.0f/h", itemsPerHour);
+                }
+                this.rightTextWidth = font.width(rightText);
+            } else {
+                this.rightText = null;
+                this.rightTextWidth = 0;
+            }
+        }
+
+        private static String formatEta(double hours) {
+            if (Double.isInfinite(hours) || hours <= 0) return "-";
+            int totalMinutes = (int) (hours * 60);
+            if (totalMinutes < 60) return totalMinutes + "m";
+            return String.format("%dh %dm", totalMinutes / 60, totalMinutes % 60);
+        }
+    }
+}
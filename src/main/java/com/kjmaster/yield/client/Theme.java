@@ -30,6 +30,10 @@ public class Theme {
     public static final int GRID_ITEM_BG = 0xFF222222;
     public static final int GRID_ITEM_HOVER = 0xFF353535;
 
+    public static final int SCROLLBAR_TRACK = 0xFF000000;
+    public static final int SCROLLBAR_THUMB = 0xFF808080;
+    public static final int SCROLLBAR_THUMB_HIGHLIGHT = 0xFFC0C0C0;
+
     public static final int TEXT_PRIMARY = 0xFFFFFFFF;
     public static final int TEXT_SECONDARY = 0xFFAAAAAA;
     public static final int TEXT_YELLOW = 0xFFFFFF00;
@@ -4,7 +4,7 @@ import com.kjmaster.yield.Config;
 import com.kjmaster.yield.api.IProjectProvider;
 import com.kjmaster.yield.api.ISessionStatus;
 import com.kjmaster.yield.client.screen.HudEditorScreen;
-import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.metrics.YieldMetrics;
 import com.kjmaster.yield.project.YieldProject;
 import com.kjmaster.yield.tracker.GoalTracker;
 import net.minecraft.client.DeltaTracker;
@@ -22,6 +22,11 @@ import java.util.Optional;
 
 public class YieldOverlay implements LayeredDraw.Layer {
 
+    private static final ItemStack XP_ICON = new ItemStack(Items.EXPERIENCE_BOTTLE);
+
+    // Render Thread only: shared by the in-game overlay and the HUD editor preview
+    private static final OverlayRenderCache CACHE = new OverlayRenderCache();
+
     private final IProjectProvider projectProvider;
     private final ISessionStatus sessionStatus;
 
@@ -38,13 +43,18 @@ public class YieldOverlay implements LayeredDraw.Layer {
 
         if (mc.screen instanceof HudEditorScreen) return;
 
+        int width = 150;
+
         Optional<YieldProject> projectOpt = projectProvider.getActiveProject();
-        if (projectOpt.isEmpty()) return;
+        if (projectOpt.isEmpty()) {
+            if (projectProvider.isLoading()) {
+                renderLoading(gfx, mc, width);
+            }
+            return;
+        }
         YieldProject project = projectOpt.get();
         boolean isPaused = !sessionStatus.isRunning();
 
-        int width = 150;
-
         // 1. Calculate Full Height (No Limit)
         int fullHeight = calculateHeight(project);
 
@@ -64,7 +74,23 @@ public class YieldOverlay implements LayeredDraw.Layer {
         x = Mth.clamp(x, 0, screenW - width);
         y = Mth.clamp(y, 0, Math.max(0, screenH - renderHeight));
 
+        long start = YieldMetrics.start();
         renderHud(gfx, mc.font, project, x, y, width, renderHeight, isPaused, projectProvider, sessionStatus);
+        YieldMetrics.stop(YieldMetrics.OVERLAY_RENDER_TIME, start);
+    }
+
+    /**
+     * Placeholder shown at the overlay position until projects have been read from disk.
+     */
+    private static void renderLoading(GuiGraphics gfx, Minecraft mc, int width) {
+        int height = Theme.PADDING * 2 + Theme.OVERLAY_LINE_HEIGHT;
+        int screenW = mc.getWindow().getGuiScaledWidth();
+        int screenH = mc.getWindow().getGuiScaledHeight();
+        int x = Mth.clamp((int) (screenW * Config.OVERLAY_X.get()), 0, screenW - width);
+        int y = Mth.clamp((int) (screenH * Config.OVERLAY_Y.get()), 0, Math.max(0, screenH - height));
+
+        gfx.fill(x, y, x + width, y + height, Config.OVERLAY_COLOR.get());
+        gfx.drawString(mc.font, Component.translatable("yield.label.loading"), x + Theme.PADDING, y + Theme.PADDING + 4, Theme.TEXT_SECONDARY, true);
     }
 
     public static int calculateHeight(YieldProject project) {
@@ -89,29 +115,18 @@ public class YieldOverlay implements LayeredDraw.Layer {
         }
 
         long durationSecs = sessionStatus.getSessionDuration() / 1000;
-        String timeStr = String.format("%02d:%02d", durationSecs / 60, durationSecs % 60);
-        int timeWidth = font.width(timeStr);
+        String timeStr = CACHE.getTimeText(durationSecs, font);
+        int timeWidth = CACHE.getTimeWidth();
         int rightMargin = projectProvider.hasSaveFailed() ? Theme.PADDING + 10 : Theme.PADDING;
 
-        gfx.drawString(font, Component.literal(timeStr), x + width - rightMargin - timeWidth, currentY + 4, isPaused ? Theme.OVERLAY_TEXT_PAUSED : Theme.OVERLAY_DASH, true);
+        gfx.drawString(font, timeStr, x + width - rightMargin - timeWidth, currentY + 4, isPaused ? Theme.OVERLAY_TEXT_PAUSED : Theme.OVERLAY_DASH, true);
 
-        String prefix = "Project: ";
         int gap = 5;
-        int maxNameWidth = width - (Theme.PADDING * 2) - timeWidth - gap - font.width(prefix);
-
-        String name = project.name();
+        int maxNameWidth = width - (Theme.PADDING * 2) - timeWidth - gap - CACHE.getPrefixWidth(font);
         int nameColor = isPaused ? Theme.TEXT_SECONDARY : Theme.TEXT_PRIMARY;
 
-        if (isPaused) name += " (Paused)";
-
-        if (maxNameWidth > 10) {
-            if (font.width(name) > maxNameWidth) {
-                name = font.plainSubstrByWidth(name, maxNameWidth - font.width("...")) + "...";
-            }
-            gfx.drawString(font, Component.literal(prefix + name), x + Theme.PADDING, currentY + 4, nameColor, true);
-        } else {
-            gfx.drawString(font, Component.literal("Project"), x + Theme.PADDING, currentY + 4, nameColor, true);
-        }
+        String header = CACHE.getHeaderText(project.name(), isPaused, maxNameWidth, font);
+        gfx.drawString(font, header, x + Theme.PADDING, currentY + 4, nameColor, true);
 
         currentY += Theme.OVERLAY_LINE_HEIGHT;
 
@@ -121,7 +136,8 @@ public class YieldOverlay implements LayeredDraw.Layer {
         }
 
         // 4. Render Goals with Overflow Check
-        for (ProjectGoal goal : project.goals()) {
+        OverlayRenderCache.GoalModel[] models = CACHE.getGoalModels(project.goals());
+        for (int i = 0; i < models.length; i++) {
             // Check if adding this row would exceed the render area (minus padding)
             if (currentY + Theme.OVERLAY_LINE_HEIGHT > bottomLimit - Theme.PADDING) {
                 // Determine center for overflow dots
@@ -132,57 +148,38 @@ public class YieldOverlay implements LayeredDraw.Layer {
                 break; // Stop rendering
             }
 
-            renderGoalRow(gfx, font, goal, x + Theme.PADDING, currentY, width, isPaused, sessionStatus);
+            renderGoalRow(gfx, font, models[i], i, x + Theme.PADDING, currentY, width, isPaused, sessionStatus);
             currentY += Theme.OVERLAY_LINE_HEIGHT;
         }
     }
 
     private static void renderXpRow(GuiGraphics gfx, Font font, int x, int y, int totalWidth, ISessionStatus sessionStatus) {
-        ItemStack icon = new ItemStack(Items.EXPERIENCE_BOTTLE);
-        gfx.renderItem(icon, x, y);
-        gfx.drawString(font, Component.literal("Experience"), x + Theme.OVERLAY_ICON_SIZE + 4, y + 4, Theme.OVERLAY_XP_LABEL, true);
+        gfx.renderItem(XP_ICON, x, y);
+        gfx.drawString(font, "Experience", x + Theme.OVERLAY_ICON_SIZE + 4, y + 4, Theme.OVERLAY_XP_LABEL, true);
 
         int xpRate = (int) sessionStatus.getXpPerHour();
         if (xpRate > 0) {
-            String rateStr = xpRate + " XP/h";
-            int rateWidth = font.width(rateStr);
-            gfx.drawString(font, Component.literal(rateStr), (x + totalWidth - (Theme.PADDING * 2)) - rateWidth, y + 4, Theme.COLOR_XP, true);
+            String rateStr = CACHE.getXpRateText(xpRate, font);
+            int rateWidth = CACHE.getXpRateWidth();
+            gfx.drawString(font, rateStr, (x + totalWidth - (Theme.PADDING * 2)) - rateWidth, y + 4, Theme.COLOR_XP, true);
         } else {
-            gfx.drawString(font, Component.literal("-"), (x + totalWidth - (Theme.PADDING * 2)) - 5, y + 4, Theme.OVERLAY_DASH, true);
+            gfx.drawString(font, "-", (x + totalWidth - (Theme.PADDING * 2)) - 5, y + 4, Theme.OVERLAY_DASH, true);
         }
     }
 
-    private static void renderGoalRow(GuiGraphics gfx, Font font, ProjectGoal goal, int x, int y, int totalWidth, boolean isPaused, ISessionStatus sessionStatus) {
-        ItemStack icon = goal.getRenderStack();
-        gfx.renderItem(icon, x, y);
+    private static void renderGoalRow(GuiGraphics gfx, Font font, OverlayRenderCache.GoalModel model, int slot, int x, int y, int totalWidth, boolean isPaused, ISessionStatus sessionStatus) {
+        gfx.renderItem(model.icon, x, y);
+
+        // Strings are only rebuilt when the count or rate actually changed
+        GoalTracker tracker = sessionStatus.getTracker(model.goal, slot);
+        model.refresh(tracker.getCurrentCount(), tracker.getItemsPerHour(), font);
 
-        GoalTracker tracker = sessionStatus.getTracker(goal);
-        String progress = String.format("%d/%d", tracker.getCurrentCount(), goal.targetAmount());
         int textColor = isPaused ? Theme.TEXT_SECONDARY : Theme.TEXT_PRIMARY;
-        gfx.drawString(font, Component.literal(progress), x + Theme.OVERLAY_ICON_SIZE + 4, y + 4, textColor, true);
-
-        double rate = tracker.getItemsPerHour();
-
-        if (rate > 0) {
-            int remaining = Math.max(0, goal.targetAmount() - tracker.getCurrentCount());
-            String rightText;
-            if (remaining > 0) {
-                String eta = formatEta(remaining / rate);
-                rightText = String.format("%.0f/h (%s)", rate, eta);
-            } else {
-                rightText = String.format("%.0f/h", rate);
-            }
+        gfx.drawString(font, model.progressText, x + Theme.OVERLAY_ICON_SIZE + 4, y + 4, textColor, true);
 
-            int rightTextWidth = font.width(rightText);
+        if (model.rightText != null) {
             int rateColor = isPaused ? Theme.OVERLAY_RATE_PAUSED : Theme.OVERLAY_RATE;
-            gfx.drawString(font, Component.literal(rightText), (x + totalWidth - (Theme.PADDING * 2)) - rightTextWidth, y + 4, rateColor, true);
+            gfx.drawString(font, model.rightText, (x + totalWidth - (Theme.PADDING * 2)) - model.rightTextWidth, y + 4, rateColor, true);
         }
     }
-
-    private static String formatEta(double hours) {
-        if (Double.isInfinite(hours) || hours <= 0) return "-";
-        int totalMinutes = (int) (hours * 60);
-        if (totalMinutes < 60) return totalMinutes + "m";
-        return String.format("%dh %dm", totalMinutes / 60, totalMinutes % 60);
-    }
-}
\ No newline at end of file
+}
@@ -27,6 +27,8 @@ public class DashboardHeader extends AbstractWidget {
     private final ISessionController sessionController;
     private final ISessionStatus sessionStatus;
     private final YieldEventBus eventBus;
+    // Listeners are registered under the owning screen's token and released with it
+    private final Object listenerOwner;
 
     private final Font font;
     private EditBox nameInput;
@@ -40,13 +42,14 @@ public class DashboardHeader extends AbstractWidget {
     // Callbacks for screen transitions
     private Runnable onAddGoalClicked;
 
-    public DashboardHeader(YieldServices services) {
+    public DashboardHeader(YieldServices services, Object listenerOwner) {
         super(0, 0, 0, Theme.TOP_BAR_HEIGHT, Component.empty());
         this.projectController = services.projectController();
         this.projectProvider = services.projectProvider();
         this.sessionController = services.sessionController();
         this.sessionStatus = services.sessionStatus();
         this.eventBus = services.eventBus();
+        this.listenerOwner = listenerOwner;
         this.font = Minecraft.getInstance().font;
         this.buttonRow = LinearLayout.horizontal().spacing(4);
 
@@ -55,19 +58,19 @@ public class DashboardHeader extends AbstractWidget {
     }
 
     private void registerEvents() {
-        eventBus.register(YieldEvents.ActiveProjectChanged.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ActiveProjectChanged.class, event -> {
             this.setProject(event.newActiveProject());
         });
 
         // If the project itself updates (name change, goal added), refresh local state
-        eventBus.register(YieldEvents.ProjectUpdated.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ProjectUpdated.class, event -> {
             if (currentProject != null && currentProject.id().equals(event.project().id())) {
                 this.setProject(event.project());
             }
         });
 
-        eventBus.register(YieldEvents.SessionStarted.class, e -> updateButtonStates());
-        eventBus.register(YieldEvents.SessionStopped.class, e -> updateButtonStates());
+        eventBus.register(listenerOwner, YieldEvents.SessionStarted.class, e -> updateButtonStates());
+        eventBus.register(listenerOwner, YieldEvents.SessionStopped.class, e -> updateButtonStates());
     }
 
     private void initWidgets() {
@@ -1,5 +1,6 @@
 package com.kjmaster.yield.client.component;
 
+import com.kjmaster.yield.api.IProjectProvider;
 import com.kjmaster.yield.api.ISessionStatus;
 import com.kjmaster.yield.client.Theme;
 import com.kjmaster.yield.event.internal.YieldEventBus;
@@ -10,7 +11,6 @@ import com.kjmaster.yield.tracker.GoalTracker;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
-import net.minecraft.client.gui.components.ObjectSelectionList;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.FormattedCharSequence;
 import org.jetbrains.annotations.NotNull;
@@ -19,34 +19,40 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
-public class GoalGrid extends ObjectSelectionList<GoalGrid.GoalRow> {
+public class GoalGrid extends VirtualGrid<ProjectGoal> {
 
+    private final IProjectProvider projectProvider;
     private final ISessionStatus sessionStatus;
     private final YieldEventBus eventBus;
+    // Listeners are registered under the owning screen's token and released with it
+    private final Object listenerOwner;
 
     private YieldProject currentProject;
     private BiConsumer<ProjectGoal, Boolean> onGoalClicked;
 
     private final int slotSize = Theme.GOAL_SLOT_SIZE;
-    private final int gap = Theme.GOAL_SLOT_GAP;
-    private int columns = 1;
 
-    public GoalGrid(Minecraft mc, int width, int height, int top, int bottom,
-                    ISessionStatus sessionStatus, YieldEventBus eventBus) {
-        super(mc, width, height, top, Theme.GOAL_SLOT_SIZE + Theme.GOAL_SLOT_GAP);
+    // Positioned by the dashboard layout, like the sidebar
+    public GoalGrid(Minecraft mc, int width, int height,
+                    IProjectProvider projectProvider, ISessionStatus sessionStatus, YieldEventBus eventBus,
+                    Object listenerOwner) {
+        super(mc, 0, 0, width, height, Theme.GOAL_SLOT_SIZE,
+                Theme.GOAL_SLOT_SIZE + Theme.GOAL_SLOT_GAP, Theme.GOAL_SLOT_SIZE + Theme.GOAL_SLOT_GAP);
+        this.projectProvider = projectProvider;
         this.sessionStatus = sessionStatus;
         this.eventBus = eventBus;
+        this.listenerOwner = listenerOwner;
         registerEvents();
     }
 
     private void registerEvents() {
         // Switch context when active project changes via other controls
-        eventBus.register(YieldEvents.ActiveProjectChanged.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ActiveProjectChanged.class, event -> {
             this.setProject(event.newActiveProject());
         });
 
-        // Reflow if the current project is updated (e.g. goal added/removed, strict mode toggled)
-        eventBus.register(YieldEvents.ProjectUpdated.class, event -> {
+        // Refresh if the current project is updated (e.g. goal added/removed, strict mode toggled)
+        eventBus.register(listenerOwner, YieldEvents.ProjectUpdated.class, event -> {
             if (currentProject != null && currentProject.id().equals(event.project().id())) {
                 this.setProject(event.project());
             }
@@ -54,65 +60,35 @@ public class GoalGrid extends ObjectSelectionList<GoalGrid.GoalRow> {
     }
 
     public void setFixedSize(int width, int height) {
-        this.updateSizeAndPosition(width, height, this.getY());
-    }
-
-    @Override
-    protected boolean isValidMouseClick(int button) {
-        return button == 0 || button == 1;
+        this.setWidth(width);
+        this.setHeight(height);
+        reflow();
     }
 
     public void setProject(YieldProject project) {
+        // A new version of the same project keeps its scroll position
+        boolean sameProject = currentProject != null && project != null && currentProject.id().equals(project.id());
         this.currentProject = project;
-        reflow();
+        setCells(project != null ? project.goals() : List.of());
+        if (!sameProject) setScrollAmount(0);
     }
 
     public void setOnGoalClicked(BiConsumer<ProjectGoal, Boolean> listener) {
         this.onGoalClicked = listener;
     }
 
+    /**
+     * Re-clamps the scroll position after a resize. Columns and visible rows are derived from the
+     * current size while rendering, so nothing else depends on the goal count.
+     */
     public void reflow() {
-        this.clearEntries();
-        if (currentProject == null) return;
-
-        int availableWidth = getRowWidth();
-        this.columns = Math.max(1, availableWidth / (slotSize + gap));
-
-        List<ProjectGoal> goals = currentProject.goals();
-        List<ProjectGoal> currentRowGoals = new ArrayList<>();
-
-        for (ProjectGoal goal : goals) {
-            currentRowGoals.add(goal);
-            if (currentRowGoals.size() >= columns) {
-                this.addEntry(new GoalRow(new ArrayList<>(currentRowGoals)));
-                currentRowGoals.clear();
-            }
-        }
-
-        if (!currentRowGoals.isEmpty()) {
-            this.addEntry(new GoalRow(new ArrayList<>(currentRowGoals)));
-        }
-        this.setScrollAmount(0);
-    }
-
-    @Override
-    public int getRowWidth() {
-        return this.width - 20;
-    }
-
-    @Override
-    protected int getScrollbarPosition() {
-        return this.width - 6;
-    }
-
-    @Override
-    protected void renderListBackground(@NotNull GuiGraphics g) {
+        setScrollAmount(getScrollAmount());
     }
 
     @Override
     public void renderWidget(@NotNull GuiGraphics gfx, int mouseX, int mouseY, float partialTick) {
         if (currentProject == null) {
-            renderPlaceholder(gfx, "yield.label.select_prompt");
+            renderPlaceholder(gfx, projectProvider.isLoading() ? "yield.label.loading" : "yield.label.select_prompt");
             return;
         }
         if (currentProject.goals().isEmpty()) {
@@ -120,10 +96,20 @@ public class GoalGrid extends ObjectSelectionList<GoalGrid.GoalRow> {
             return;
         }
         super.renderWidget(gfx, mouseX, mouseY, partialTick);
-        GoalRow hoveredRow = getHovered();
-        if (hoveredRow != null && hoveredRow.hoveredGoal != null) {
-            renderSmartTooltip(gfx, mouseX, mouseY, hoveredRow.hoveredGoal);
+    }
+
+    @Override
+    protected void renderCellTooltip(GuiGraphics gfx, ProjectGoal goal, int slot, int mouseX, int mouseY) {
+        renderSmartTooltip(gfx, mouseX, mouseY, goal, slot);
+    }
+
+    @Override
+    protected boolean onCellClicked(ProjectGoal goal, int slot, int button) {
+        if ((button == 0 || button == 1) && onGoalClicked != null) {
+            onGoalClicked.accept(goal, button == 1);
+            return true;
         }
+        return false;
     }
 
     private void renderPlaceholder(GuiGraphics gfx, String key) {
@@ -138,8 +124,8 @@ public class GoalGrid extends ObjectSelectionList<GoalGrid.GoalRow> {
         }
     }
 
-    private void renderSmartTooltip(GuiGraphics gfx, int mouseX, int mouseY, ProjectGoal goal) {
-        GoalTracker tracker = sessionStatus.getTracker(goal);
+    private void renderSmartTooltip(GuiGraphics gfx, int mouseX, int mouseY, ProjectGoal goal, int slot) {
+        GoalTracker tracker = sessionStatus.getTracker(goal, slot);
         List<Component> tooltip = new ArrayList<>();
         if (goal.targetTag().isPresent()) {
             tooltip.add(Component.literal(goal.targetTag().get().location().toString()).withStyle(ChatFormatting.GOLD, ChatFormatting.BOLD));
@@ -165,62 +151,28 @@ public class GoalGrid extends ObjectSelectionList<GoalGrid.GoalRow> {
         gfx.renderComponentTooltip(this.minecraft.font, tooltip, mouseX, mouseY);
     }
 
-    public class GoalRow extends ObjectSelectionList.Entry<GoalRow> {
-        private final List<ProjectGoal> rowGoals;
-        public ProjectGoal hoveredGoal;
 
-        public GoalRow(List<ProjectGoal> rowGoals) {
-            this.rowGoals = rowGoals;
-        }
-
-        @Override
-        public @NotNull Component getNarration() {
-            return Component.translatable("yield.label.goals");
-        }
-
-        @Override
-        public void render(@NotNull GuiGraphics gfx, int index, int top, int left, int width, int height, int mouseX, int mouseY, boolean isHovered, float partialTick) {
-            this.hoveredGoal = null;
-            for (int i = 0; i < rowGoals.size(); i++) {
-                ProjectGoal goal = rowGoals.get(i);
-                int x = left + (i * (slotSize + gap));
-                int y = top;
-                boolean slotHover = mouseX >= x && mouseX < x + slotSize && mouseY >= y && mouseY < y + slotSize;
-                if (slotHover) this.hoveredGoal = goal;
-                renderGoalSlot(gfx, goal, x, y, slotHover);
-            }
-        }
-
-        private void renderGoalSlot(GuiGraphics gfx, ProjectGoal goal, int x, int y, boolean isHovered) {
-            int bgColor = isHovered ? Theme.GRID_ITEM_HOVER : Theme.GRID_ITEM_BG;
-            gfx.fill(x, y, x + slotSize, y + slotSize, bgColor);
-            GoalTracker tracker = sessionStatus.getTracker(goal);
-            float progress = tracker.getProgress();
-            if (progress > 0) {
-                gfx.pose().pushPose();
-                gfx.pose().translate(0, 0, 100);
-                int borderColor;
-                if (progress >= 1.0f) borderColor = 0xFFFFD700;
-                else if (progress > 0.75f) borderColor = 0xFF55FF55;
-                else if (progress > 0.25f) borderColor = 0xFFFFFF55;
-                else borderColor = 0xFFFF5555;
-                int maxBarW = 16;
-                int barWidth = (int) (maxBarW * progress);
-                int barY = y + 16;
-                gfx.fill(x + 1, barY, x + 1 + maxBarW, barY + 1, 0xFF000000);
-                gfx.fill(x + 1, barY, x + 1 + barWidth, barY + 1, borderColor);
-                gfx.pose().popPose();
-            }
-            gfx.renderItem(goal.getRenderStack(), x + 1, y + 1);
-        }
-
-        @Override
-        public boolean mouseClicked(double mouseX, double mouseY, int button) {
-            if (this.hoveredGoal != null && onGoalClicked != null) {
-                onGoalClicked.accept(this.hoveredGoal, button == 1);
-                return true;
-            }
-            return false;
+    @Override
+    protected void renderCell(GuiGraphics gfx, ProjectGoal goal, int slot, int x, int y, boolean isHovered) {
+        int bgColor = isHovered ? Theme.GRID_ITEM_HOVER : Theme.GRID_ITEM_BG;
+        gfx.fill(x, y, x + slotSize, y + slotSize, bgColor);
+        GoalTracker tracker = sessionStatus.getTracker(goal, slot);
+        float progress = tracker.getProgress();
+        if (progress > 0) {
+            gfx.pose().pushPose();
+            gfx.pose().translate(0, 0, 100);
+            int borderColor;
+            if (progress >= 1.0f) borderColor = 0xFFFFD700;
+            else if (progress > 0.75f) borderColor = 0xFF55FF55;
+            else if (progress > 0.25f) borderColor = 0xFFFFFF55;
+            else borderColor = 0xFFFF5555;
+            int maxBarW = 16;
+            int barWidth = (int) (maxBarW * progress);
+            int barY = y + 16;
+            gfx.fill(x + 1, barY, x + 1 + maxBarW, barY + 1, 0xFF000000);
+            gfx.fill(x + 1, barY, x + 1 + barWidth, barY + 1, borderColor);
+            gfx.pose().popPose();
         }
+        gfx.renderItem(goal.getRenderStack(), x + 1, y + 1);
     }
-}
\ No newline at end of file
+}
@@ -37,21 +37,26 @@ public class ProjectSidebar extends AbstractWidget {
     private final IProjectController projectController;
     private final ISessionStatus sessionStatus;
     private final YieldEventBus eventBus;
+    // Listeners are registered under the owning screen's token and released with it
+    private final Object listenerOwner;
 
     private final ProjectList projectList;
     private final LinearLayout footerLayout;
 
     private Button newProjectButton;
     private Button xpToggleButton;
+    private Button rateModeButton;
     private Button moveHudButton;
 
     private Consumer<YieldProject> onProjectSelected;
+    private Consumer<Screen> screenOpener;
 
     public ProjectSidebar(Minecraft mc, int width, int height,
                           IProjectProvider projectProvider,
                           IProjectController projectController,
                           ISessionStatus sessionStatus,
-                          YieldEventBus eventBus) {
+                          YieldEventBus eventBus,
+                          Object listenerOwner) {
         super(0, 0, width, height, Component.empty());
         this.minecraft = mc;
         this.font = mc.font;
@@ -59,6 +64,7 @@ public class ProjectSidebar extends AbstractWidget {
         this.projectController = projectController;
         this.sessionStatus = sessionStatus;
         this.eventBus = eventBus;
+        this.listenerOwner = listenerOwner;
 
         // Initialize List with dummy height; resized in setFixedSize
         this.projectList = new ProjectList(mc, width, height, 0, 24);
@@ -70,17 +76,17 @@ public class ProjectSidebar extends AbstractWidget {
 
     private void registerEvents() {
         // Rebuild list when projects are added/removed
-        eventBus.register(YieldEvents.ProjectListChanged.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ProjectListChanged.class, event -> {
             this.refreshList();
         });
 
         // Update selection visualization when active project changes
-        eventBus.register(YieldEvents.ActiveProjectChanged.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ActiveProjectChanged.class, event -> {
             this.updateWidgetStates();
         });
 
         // Listen for updates (name change, strict toggle) to refresh list visuals
-        eventBus.register(YieldEvents.ProjectUpdated.class, event -> {
+        eventBus.register(listenerOwner, YieldEvents.ProjectUpdated.class, event -> {
             updateWidgetStates();
             // We don't need to rebuild the list here, because the entries now look up data dynamically.
             // Just triggering a repaint (via updateWidgetStates or implied) is enough.
@@ -96,9 +102,22 @@ public class ProjectSidebar extends AbstractWidget {
             }
         }).width(Theme.SIDEBAR_WIDTH - 10).build();
 
+        this.rateModeButton = Button.builder(Component.literal("Rate"), btn -> {
+            YieldProject p = getSelectedProject();
+            if (p != null) {
+                YieldProject updated = p.withRateMode(p.rateMode().next());
+                projectController.updateProject(updated);
+            }
+        }).width(Theme.SIDEBAR_WIDTH - 10).build();
+
         this.moveHudButton = Button.builder(Component.translatable("yield.label.move_hud"), btn -> {
             if (this.minecraft.screen != null) {
-                this.minecraft.setScreen(new HudEditorScreen(this.minecraft.screen, projectProvider, sessionStatus));
+                Screen editor = new HudEditorScreen(this.minecraft.screen, projectProvider, sessionStatus);
+                if (screenOpener != null) {
+                    screenOpener.accept(editor);
+                } else {
+                    this.minecraft.setScreen(editor);
+                }
             }
         }).width(Theme.SIDEBAR_WIDTH - 10).build();
 
@@ -112,6 +131,7 @@ public class ProjectSidebar extends AbstractWidget {
         }).width(Theme.SIDEBAR_WIDTH - 10).build();
 
         this.footerLayout.addChild(this.xpToggleButton);
+        this.footerLayout.addChild(this.rateModeButton);
         this.footerLayout.addChild(this.moveHudButton);
         this.footerLayout.addChild(this.newProjectButton);
     }
@@ -155,6 +175,10 @@ public class ProjectSidebar extends AbstractWidget {
         gfx.vLine(getX() + getWidth(), getY(), getY() + getHeight(), Theme.SIDEBAR_BORDER);
 
         this.projectList.render(gfx, mouseX, mouseY, partialTick);
+        if (projectProvider.isLoading() && projectList.children().isEmpty()) {
+            int centerX = getX() + getWidth() / 2;
+            gfx.drawCenteredString(font, Component.translatable("yield.label.loading"), centerX, projectList.getY() + 10, Theme.TEXT_SECONDARY);
+        }
         this.footerLayout.visitWidgets(w -> w.render(gfx, mouseX, mouseY, partialTick));
     }
 
@@ -182,6 +206,13 @@ public class ProjectSidebar extends AbstractWidget {
         this.onProjectSelected = listener;
     }
 
+    /**
+     * @param opener Opens screens that return to the current one (e.g. the HUD editor).
+     */
+    public void setScreenOpener(Consumer<Screen> opener) {
+        this.screenOpener = opener;
+    }
+
     public void refreshList() {
         this.projectList.refresh();
         updateWidgetStates();
@@ -207,9 +238,12 @@ public class ProjectSidebar extends AbstractWidget {
             String status = p.trackXp() ? "ON" : "OFF";
             int color = p.trackXp() ? 0xFF55FF55 : 0xFFAAAAAA;
             this.xpToggleButton.setMessage(Component.literal("Track XP: " + status).withColor(color));
+            this.rateModeButton.setMessage(Component.literal("Rate: " + p.rateMode().getDisplayName()));
         } else {
             this.xpToggleButton.setMessage(Component.literal("XP"));
+            this.rateModeButton.setMessage(Component.literal("Rate"));
         }
+        this.rateModeButton.active = hasSel;
     }
 
     public class ProjectList extends ObjectSelectionList<ProjectEntry> {
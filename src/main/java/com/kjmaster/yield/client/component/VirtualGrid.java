@@ -0,0 +1,220 @@
+package com.kjmaster.yield.client.component;
+
+import com.kjmaster.yield.client.Theme;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.AbstractWidget;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Scrollable grid of fixed-size cells that only touches the cells in view.
+ * <p>
+ * Unlike a selection list, the grid keeps no per-row entries: the visible rows are derived from the scroll offset
+ * and column count every frame, and each visible cell is read straight from the backing list by index. Replacing
+ * the cells or resizing the grid costs O(1); rendering costs O(visible cells).
+ */
+public abstract class VirtualGrid<T> extends AbstractWidget {
+    private static final int TOP_PADDING = 4;
+    private static final int SCROLLBAR_WIDTH = 6;
+    private static final int MIN_THUMB_HEIGHT = 32;
+
+    protected final Minecraft minecraft;
+
+    // Hit area of a cell, and the distance between neighbouring cells
+    private final int slotSize;
+    private final int columnPitch;
+    private final int rowPitch;
+
+    private List<? extends T> cells = List.of();
+    private double scrollAmount;
+    private boolean scrolling;
+
+    protected VirtualGrid(Minecraft mc, int x, int y, int width, int height, int slotSize, int columnPitch, int rowPitch) {
+        super(x, y, width, height, Component.empty());
+        this.minecraft = mc;
+        this.slotSize = slotSize;
+        this.columnPitch = columnPitch;
+        this.rowPitch = rowPitch;
+    }
+
+    /**
+     * Replaces the backing list. The list is read by index while rendering, so it must stay valid until replaced.
+     */
+    public void setCells(List<? extends T> cells) {
+        this.cells = cells;
+        setScrollAmount(this.scrollAmount);
+    }
+
+    public int getCellCount() {
+        return cells.size();
+    }
+
+    public double getScrollAmount() {
+        return scrollAmount;
+    }
+
+    public void setScrollAmount(double scrollAmount) {
+        this.scrollAmount = Mth.clamp(scrollAmount, 0, getMaxScroll());
+    }
+
+    // --- Geometry ---
+
+    /**
+     * @return The width of the area cells are laid out in, centered in the widget.
+     */
+    protected int getGridWidth() {
+        return this.width - 20;
+    }
+
+    protected int getColumns() {
+        return Math.max(1, getGridWidth() / columnPitch);
+    }
+
+    protected int getGridLeft() {
+        return getX() + (this.width - getGridWidth()) / 2;
+    }
+
+    protected int getScrollbarX() {
+        return getX() + this.width - SCROLLBAR_WIDTH;
+    }
+
+    public int getRowCount() {
+        int columns = getColumns();
+        return (cells.size() + columns - 1) / columns;
+    }
+
+    public int getMaxScroll() {
+        return Math.max(0, getRowCount() * rowPitch + TOP_PADDING - this.height);
+    }
+
+    /**
+     * @return The index of the cell whose slot is under the given point, or -1.
+     */
+    protected int getCellAt(double mouseX, double mouseY) {
+        if (!isMouseOver(mouseX, mouseY)) return -1;
+
+        double relX = mouseX - getGridLeft();
+        double relY = mouseY - getY() - TOP_PADDING + scrollAmount;
+        if (relX < 0 || relY < 0) return -1;
+
+        int column = (int) (relX / columnPitch);
+        int row = (int) (relY / rowPitch);
+        if (column >= getColumns()) return -1;
+        // Gaps between slots don't belong to any cell
+        if (relX - column * columnPitch >= slotSize || relY - row * rowPitch >= slotSize) return -1;
+
+        int index = row * getColumns() + column;
+        return index < cells.size() ? index : -1;
+    }
+
+    private boolean isOverScrollbar(double mouseX, double mouseY) {
+        int barX = getScrollbarX();
+        return getMaxScroll() > 0 && mouseX >= barX && mouseX < barX + SCROLLBAR_WIDTH
+                && mouseY >= getY() && mouseY < getBottom();
+    }
+
+    private int getThumbHeight() {
+        int contentHeight = getRowCount() * rowPitch + TOP_PADDING;
+        return Mth.clamp((int) ((float) this.height * this.height / contentHeight), MIN_THUMB_HEIGHT, this.height - 8);
+    }
+
+    // --- Rendering ---
+
+    @Override
+    protected void renderWidget(@NotNull GuiGraphics gfx, int mouseX, int mouseY, float partialTick) {
+        int hovered = getCellAt(mouseX, mouseY);
+        int columns = getColumns();
+        int left = getGridLeft();
+        int scroll = (int) scrollAmount;
+
+        // 1. Only the rows intersecting the viewport
+        int firstRow = Math.max(0, (scroll - TOP_PADDING) / rowPitch);
+        int lastRow = Math.min(getRowCount() - 1, (scroll + this.height - TOP_PADDING) / rowPitch);
+
+        gfx.enableScissor(getX(), getY(), getRight(), getBottom());
+        for (int row = firstRow; row <= lastRow; row++) {
+            int top = getY() + TOP_PADDING + row * rowPitch - scroll;
+            for (int column = 0; column < columns; column++) {
+                int index = row * columns + column;
+                if (index >= cells.size()) break;
+                renderCell(gfx, cells.get(index), index, left + column * columnPitch, top, index == hovered);
+            }
+        }
+        gfx.disableScissor();
+
+        // 2. Scrollbar
+        if (getMaxScroll() > 0) {
+            int barX = getScrollbarX();
+            int thumbHeight = getThumbHeight();
+            int thumbY = getY() + (int) scrollAmount * (this.height - thumbHeight) / getMaxScroll();
+            gfx.fill(barX, getY(), barX + SCROLLBAR_WIDTH, getBottom(), Theme.SCROLLBAR_TRACK);
+            gfx.fill(barX, thumbY, barX + SCROLLBAR_WIDTH, thumbY + thumbHeight, Theme.SCROLLBAR_THUMB);
+            gfx.fill(barX, thumbY, barX + SCROLLBAR_WIDTH - 1, thumbY + thumbHeight - 1, Theme.SCROLLBAR_THUMB_HIGHLIGHT);
+        }
+
+        // 3. Tooltip outside the scissor
+        if (hovered >= 0) {
+            renderCellTooltip(gfx, cells.get(hovered), hovered, mouseX, mouseY);
+        }
+    }
+
+    /**
+     * Renders one visible cell. The slot spans {@code slotSize} pixels from (x, y).
+     */
+    protected abstract void renderCell(GuiGraphics gfx, T cell, int index, int x, int y, boolean hovered);
+
+    protected void renderCellTooltip(GuiGraphics gfx, T cell, int index, int mouseX, int mouseY) {
+    }
+
+    // --- Input ---
+
+    /**
+     * @return true if the click was handled.
+     */
+    protected abstract boolean onCellClicked(T cell, int index, int button);
+
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        if (!this.active || !this.visible) return false;
+
+        if (button == 0 && isOverScrollbar(mouseX, mouseY)) {
+            this.scrolling = true;
+            return true;
+        }
+
+        int index = getCellAt(mouseX, mouseY);
+        return index >= 0 && onCellClicked(cells.get(index), index, button);
+    }
+
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double dragX, double dragY) {
+        if (button != 0 || !this.scrolling) return false;
+
+        // Map thumb movement onto the scroll range
+        int track = Math.max(1, this.height - getThumbHeight());
+        setScrollAmount(scrollAmount + dragY * Math.max(1.0, (double) getMaxScroll() / track));
+        return true;
+    }
+
+    @Override
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        if (button == 0) this.scrolling = false;
+        return super.mouseReleased(mouseX, mouseY, button);
+    }
+
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
+        if (!isMouseOver(mouseX, mouseY)) return false;
+        setScrollAmount(scrollAmount - scrollY * rowPitch / 2.0);
+        return true;
+    }
+
+    @Override
+    protected void updateWidgetNarration(@NotNull NarrationElementOutput narrationElementOutput) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.kjmaster.yield.client.screen;
+
+import net.minecraft.client.gui.screens.Screen;
+
+/**
+ * A screen that returns to the screen it was opened from.
+ * Lets the dashboard tell whether the current screen still leads back to it (see {@link YieldDashboardScreen}).
+ */
+public interface ChildScreen {
+    Screen getParentScreen();
+}
@@ -20,7 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
-public class ComponentSelectionScreen extends Screen {
+public class ComponentSelectionScreen extends Screen implements ChildScreen {
 
     private final Screen parent;
     private final ItemStack stack;
@@ -37,6 +37,11 @@ public class ComponentSelectionScreen extends Screen {
         this.onSave = onSave;
     }
 
+    @Override
+    public Screen getParentScreen() {
+        return parent;
+    }
+
     @Override
     protected void init() {
         this.componentList = new ComponentList(this.minecraft, this.width, this.height, 32, this.height - 32);
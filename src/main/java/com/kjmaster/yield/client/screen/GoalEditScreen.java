@@ -20,7 +20,7 @@ import org.lwjgl.glfw.GLFW;
 import java.util.ArrayList;
 import java.util.List;
 
-public class GoalEditScreen extends Screen {
+public class GoalEditScreen extends Screen implements ChildScreen {
 
     private final YieldDashboardScreen parent;
     private final ProjectGoal goal;
@@ -46,6 +46,11 @@ public class GoalEditScreen extends Screen {
         this.ignoredComponents = new ArrayList<>(goal.ignoredComponents());
     }
 
+    @Override
+    public Screen getParentScreen() {
+        return parent;
+    }
+
     @Override
     protected void init() {
         this.layout = LinearLayout.vertical().spacing(8);
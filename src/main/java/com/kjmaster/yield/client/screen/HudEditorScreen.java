@@ -14,7 +14,7 @@ import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 
-public class HudEditorScreen extends Screen {
+public class HudEditorScreen extends Screen implements ChildScreen {
 
     private final Screen parent;
     private final IProjectProvider projectProvider;
@@ -38,6 +38,11 @@ public class HudEditorScreen extends Screen {
         this.dummyProject = new YieldProject("Preview Project").withTrackXp(true);
     }
 
+    @Override
+    public Screen getParentScreen() {
+        return parent;
+    }
+
     @Override
     protected void init() {
         this.addRenderableWidget(Button.builder(Component.translatable("yield.label.save"), btn -> onClose())
@@ -1,29 +1,26 @@
 package com.kjmaster.yield.client.screen;
 
 import com.kjmaster.yield.client.Theme;
+import com.kjmaster.yield.client.component.VirtualGrid;
+import com.kjmaster.yield.client.search.AsyncItemSearch;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
-import net.minecraft.client.gui.components.ObjectSelectionList;
 import net.minecraft.client.gui.screens.Screen;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.AbstractList;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
-public class ItemSelectionScreen extends Screen {
+public class ItemSelectionScreen extends Screen implements ChildScreen {
 
     private final Screen parent;
     private final Consumer<ItemStack> onItemSelect;
@@ -32,27 +29,19 @@ public class ItemSelectionScreen extends Screen {
     private EditBox searchBox;
     private ItemList itemList;
 
-    // Cache
-    private final List<Item> allItems;
-    private final List<TagKey<Item>> allTags;
+    // Searches run off-thread; the sorted item and tag indexes are cached across screens
+    private final AsyncItemSearch search = new AsyncItemSearch();
 
     public ItemSelectionScreen(Screen parent, Consumer<ItemStack> onItemSelect, Consumer<TagKey<Item>> onTagSelect) {
         super(Component.translatable("yield.label.search_items"));
         this.parent = parent;
         this.onItemSelect = onItemSelect;
         this.onTagSelect = onTagSelect;
+    }
 
-        // Cache Items
-        this.allItems = BuiltInRegistries.ITEM.stream()
-                .filter(i -> i != Items.AIR)
-                .sorted(Comparator.comparing(item -> item.getDescription().getString()))
-                .collect(Collectors.toList());
-
-        // Cache Tags
-        this.allTags = BuiltInRegistries.ITEM.getTags()
-                .map(pair -> pair.getFirst())
-                .sorted(Comparator.comparing(tag -> tag.location().toString()))
-                .collect(Collectors.toList());
+    @Override
+    public Screen getParentScreen() {
+        return parent;
     }
 
     @Override
@@ -74,7 +63,7 @@ public class ItemSelectionScreen extends Screen {
 
     private void refreshList(String query) {
         if (this.itemList != null) {
-            this.itemList.update(query);
+            this.search.submit(query.toLowerCase(), this.itemList::update);
         }
     }
 
@@ -96,6 +85,13 @@ public class ItemSelectionScreen extends Screen {
         this.minecraft.setScreen(parent);
     }
 
+    @Override
+    public void removed() {
+        // Results arriving after the screen closed would be dropped anyway; stop the work early
+        this.search.cancel();
+        super.removed();
+    }
+
     @Override
     public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
         if (keyCode == GLFW.GLFW_KEY_ESCAPE) {
@@ -107,165 +103,125 @@ public class ItemSelectionScreen extends Screen {
 
     // --- Inner Classes ---
 
-    class ItemList extends ObjectSelectionList<ItemRow> {
+    class ItemList extends VirtualGrid<EntryWrapper> {
         private static final int SLOT_SIZE = 20;
         private static final int COLUMNS = 9;
 
         public ItemList(Minecraft mc, int width, int height, int y0, int y1) {
-            super(mc, width, y1 - y0, y0, SLOT_SIZE + 2);
+            super(mc, 0, y0, width, y1 - y0, SLOT_SIZE, SLOT_SIZE, SLOT_SIZE + 2);
         }
 
-        public void update(String query) {
-            this.clearEntries();
-            String lowerQuery = query.toLowerCase();
-            boolean isTagSearch = lowerQuery.startsWith("#");
+        /**
+         * Publishes a finished search. Called on the client thread.
+         * Entries are only created for cells that get rendered, so results are not capped.
+         */
+        public void update(AsyncItemSearch.Result result) {
+            this.setCells(new ResultEntries(result));
+            this.setScrollAmount(0);
+        }
 
-            if (isTagSearch) {
-                updateTags(lowerQuery.substring(1)); // Remove '#'
-            } else {
-                updateItems(lowerQuery);
-            }
+        @Override
+        protected int getGridWidth() {
+            return COLUMNS * SLOT_SIZE;
         }
 
-        private void updateItems(String query) {
-            List<EntryWrapper> entries = allItems.stream()
-                    .filter(item -> query.isEmpty() || new ItemStack(item).getHoverName().getString().toLowerCase().contains(query))
-                    .limit(500) // Performance cap
-                    .map(EntryWrapper::new)
-                    .toList();
-            buildRows(entries);
+        @Override
+        protected int getColumns() {
+            return COLUMNS;
         }
 
-        private void updateTags(String query) {
-            List<EntryWrapper> entries = allTags.stream()
-                    .filter(tag -> query.isEmpty() || tag.location().toString().contains(query))
-                    .map(EntryWrapper::new)
-                    .toList();
-            buildRows(entries);
+        @Override
+        protected int getScrollbarX() {
+            return this.width / 2 + (getGridWidth() / 2) + 10;
         }
 
-        private void buildRows(List<EntryWrapper> entries) {
-            List<EntryWrapper> currentRow = new ArrayList<>();
-            for (EntryWrapper entry : entries) {
-                currentRow.add(entry);
-                if (currentRow.size() >= COLUMNS) {
-                    this.addEntry(new ItemRow(new ArrayList<>(currentRow)));
-                    currentRow.clear();
-                }
+        @Override
+        protected void renderCell(GuiGraphics gfx, EntryWrapper entry, int index, int x, int y, boolean hoverSlot) {
+            if (hoverSlot) {
+                gfx.fill(x, y, x + SLOT_SIZE, y + SLOT_SIZE, 0x80FFFFFF);
             }
-            if (!currentRow.isEmpty()) {
-                this.addEntry(new ItemRow(new ArrayList<>(currentRow)));
+
+            gfx.renderItem(entry.stack, x + 2, y + 2);
+
+            // If it's a tag, draw a tiny "#" overlay
+            if (entry.tag.isPresent()) {
+                gfx.pose().pushPose();
+                gfx.pose().translate(x + 10, y + 10, 200);
+                gfx.pose().scale(0.5f, 0.5f, 1f);
+                gfx.drawString(font, "#", 0, 0, 0xFF55FF55, true);
+                gfx.pose().popPose();
             }
-            this.setScrollAmount(0);
         }
 
         @Override
-        public int getRowWidth() {
-            return COLUMNS * SLOT_SIZE;
+        protected void renderCellTooltip(GuiGraphics gfx, EntryWrapper entry, int index, int mouseX, int mouseY) {
+            if (entry.tag.isPresent()) {
+                gfx.renderTooltip(font, Component.literal(entry.tag.get().location().toString()), mouseX, mouseY);
+            } else {
+                gfx.renderTooltip(font, entry.stack, mouseX, mouseY);
+            }
         }
 
         @Override
-        protected int getScrollbarPosition() {
-            return this.width / 2 + (getRowWidth() / 2) + 10;
+        protected boolean onCellClicked(EntryWrapper entry, int index, int button) {
+            if (entry.tag.isPresent()) {
+                ItemSelectionScreen.this.onTagSelect.accept(entry.tag.get());
+            } else {
+                ItemSelectionScreen.this.onItemSelect.accept(new ItemStack(entry.item));
+            }
+
+            ItemSelectionScreen.this.onClose();
+            return true;
+        }
+    }
+
+    // Search result as a list, creating each entry the first time it is rendered
+    class ResultEntries extends AbstractList<EntryWrapper> implements RandomAccess {
+        private final AsyncItemSearch.Result result;
+        private final EntryWrapper[] entries;
+
+        ResultEntries(AsyncItemSearch.Result result) {
+            this.result = result;
+            this.entries = new EntryWrapper[result.positions().length];
+        }
+
+        @Override
+        public EntryWrapper get(int index) {
+            EntryWrapper entry = entries[index];
+            if (entry == null) {
+                int position = result.positions()[index];
+                entry = result.isTagResult()
+                        ? new EntryWrapper(result.tags().tag(position), result.tags().icon(position))
+                        : new EntryWrapper(result.items().item(position));
+                entries[index] = entry;
+            }
+            return entry;
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
         }
     }
 
     // Wrapper to handle both Item and TagKey polymorphically for the list
     class EntryWrapper {
         final Item item; // Used for icon
-        final Optional<ItemStack> stack;
+        final ItemStack stack;
         final Optional<TagKey<Item>> tag;
 
         // Constructor for Item
         EntryWrapper(Item item) {
             this.item = item;
-            this.stack = Optional.of(new ItemStack(item));
+            this.stack = new ItemStack(item);
             this.tag = Optional.empty();
         }
 
-        // Constructor for Tag
-        EntryWrapper(TagKey<Item> tag) {
+        // Constructor for Tag (The display item is resolved by the tag index)
+        EntryWrapper(TagKey<Item> tag, Item icon) {
             this.tag = Optional.of(tag);
-
-            // Resolve a display item for the tag
-            var optionalHolder = BuiltInRegistries.ITEM.getTag(tag)
-                    .flatMap(holders -> holders.stream().findFirst());
-
-            this.item = optionalHolder.map(holder -> holder.value()).orElse(Items.BARRIER);
-
-            this.stack = Optional.of(new ItemStack(this.item));
-        }
-    }
-
-    class ItemRow extends ObjectSelectionList.Entry<ItemRow> {
-        private final List<EntryWrapper> entries;
-
-        public ItemRow(List<EntryWrapper> entries) {
-            this.entries = entries;
-        }
-
-        @Override
-        public @NotNull Component getNarration() {
-            return Component.empty();
-        }
-
-        @Override
-        public void render(@NotNull GuiGraphics gfx, int index, int top, int left, int width, int height, int mouseX, int mouseY, boolean isHovered, float partialTick) {
-            for (int i = 0; i < entries.size(); i++) {
-                EntryWrapper entry = entries.get(i);
-                int x = left + (i * ItemList.SLOT_SIZE);
-                int y = top;
-
-                boolean hoverSlot = mouseX >= x && mouseX < x + ItemList.SLOT_SIZE &&
-                        mouseY >= y && mouseY < y + ItemList.SLOT_SIZE;
-
-                if (hoverSlot) {
-                    gfx.fill(x, y, x + ItemList.SLOT_SIZE, y + ItemList.SLOT_SIZE, 0x80FFFFFF);
-                }
-
-                ItemStack renderStack = entry.stack.orElse(new ItemStack(entry.item));
-                gfx.renderItem(renderStack, x + 2, y + 2);
-
-                // If it's a tag, draw a tiny "#" overlay
-                if (entry.tag.isPresent()) {
-                    gfx.pose().pushPose();
-                    gfx.pose().translate(x + 10, y + 10, 200);
-                    gfx.pose().scale(0.5f, 0.5f, 1f);
-                    gfx.drawString(font, "#", 0, 0, 0xFF55FF55, true);
-                    gfx.pose().popPose();
-                }
-
-                if (hoverSlot) {
-                    if (entry.tag.isPresent()) {
-                        gfx.renderTooltip(font, Component.literal(entry.tag.get().location().toString()), mouseX, mouseY);
-                    } else {
-                        gfx.renderTooltip(font, renderStack, mouseX, mouseY);
-                    }
-                }
-            }
-        }
-
-        @Override
-        public boolean mouseClicked(double mouseX, double mouseY, int button) {
-            int centeredLeft = ItemSelectionScreen.this.width / 2 - (ItemSelectionScreen.this.itemList.getRowWidth() / 2);
-            double relX = mouseX - centeredLeft;
-
-            if (relX >= 0) {
-                int col = (int) (relX / ItemList.SLOT_SIZE);
-                if (col >= 0 && col < entries.size()) {
-                    EntryWrapper entry = entries.get(col);
-
-                    if (entry.tag.isPresent()) {
-                        ItemSelectionScreen.this.onTagSelect.accept(entry.tag.get());
-                    } else {
-                        ItemSelectionScreen.this.onItemSelect.accept(new ItemStack(entry.item));
-                    }
-
-                    ItemSelectionScreen.this.onClose();
-                    return true;
-                }
-            }
-            return false;
+            this.item = icon;
+            this.stack = new ItemStack(this.item);
         }
     }
-}
\ No newline at end of file
+}
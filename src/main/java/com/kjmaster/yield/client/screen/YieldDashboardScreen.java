@@ -34,12 +34,21 @@ import static com.kjmaster.yield.client.Theme.TOP_BAR_HEIGHT;
 
 public class YieldDashboardScreen extends Screen {
 
+    // The dashboard kept alive behind its open child screens, if any (Client Thread only)
+    @Nullable
+    private static YieldDashboardScreen parked;
+
     // Dependencies
     private final YieldServices services;
     private final DashboardViewModel viewModel;
 
     // State
     private boolean jeiLoaded = false;
+    // Set while the dashboard opens one of its own child screens, which return to it
+    private boolean openingChild = false;
+
+    // Every domain listener of the dashboard (components and view model) is registered under this token
+    private final Object listenerOwner = new Object();
 
     // Components
     private ProjectSidebar projectSidebar;
@@ -52,7 +61,7 @@ public class YieldDashboardScreen extends Screen {
     public YieldDashboardScreen(YieldServices services) {
         super(Component.translatable("yield.dashboard.title"));
         this.services = services;
-        this.viewModel = new DashboardViewModel(services);
+        this.viewModel = new DashboardViewModel(services, listenerOwner);
     }
 
     @Override
@@ -65,15 +74,18 @@ public class YieldDashboardScreen extends Screen {
                 services.projectProvider(),
                 services.projectController(),
                 services.sessionStatus(),
-                services.eventBus()
+                services.eventBus(),
+                listenerOwner
         );
 
-        this.dashboardHeader = new DashboardHeader(services);
+        this.dashboardHeader = new DashboardHeader(services, listenerOwner);
 
         this.goalGrid = new GoalGrid(
-                this.minecraft, 0, 0, 0, 0,
+                this.minecraft, 0, 0,
+                services.projectProvider(),
                 services.sessionStatus(),
-                services.eventBus()
+                services.eventBus(),
+                listenerOwner
         );
 
         // 2. Wire ViewModel & Actions
@@ -111,6 +123,7 @@ public class YieldDashboardScreen extends Screen {
     private void wireViewModel() {
         // View -> ViewModel
         this.projectSidebar.setOnProjectSelected(viewModel::selectProject);
+        this.projectSidebar.setScreenOpener(this::openChild);
 
         // ViewModel -> View
         this.viewModel.setOnSelectionChanged(this::updateUiSelection);
@@ -126,7 +139,7 @@ public class YieldDashboardScreen extends Screen {
             } else {
                 YieldProject p = viewModel.getSelectedProject();
                 if (p != null) {
-                    this.minecraft.setScreen(new GoalEditScreen(this, goal, p, services));
+                    openChild(new GoalEditScreen(this, goal, p, services));
                 }
             }
         });
@@ -165,9 +178,68 @@ public class YieldDashboardScreen extends Screen {
         this.goalGrid.reflow();
     }
 
+    @Override
+    public void removed() {
+        // Child screens return here without rebuilding the widgets (and render the dashboard behind them),
+        // so listeners are only dropped once the dashboard itself is closed or replaced
+        if (!openingChild) {
+            releaseListeners();
+        }
+        super.removed();
+    }
+
+    /**
+     * Opens a screen that returns to the dashboard, keeping the dashboard's listeners alive meanwhile.
+     * Until then the dashboard is parked, see {@link #checkParked}.
+     */
+    public void openChild(Screen child) {
+        if (parked != null && parked != this) parked.releaseListeners();
+        parked = this;
+        this.openingChild = true;
+        try {
+            this.minecraft.setScreen(child);
+        } finally {
+            this.openingChild = false;
+        }
+    }
+
+    /**
+     * Client Tick. Releases the listeners of a dashboard parked behind its child screens once the current screen no
+     * longer leads back to it, e.g. when the death screen or a disconnect replaced the child.
+     */
+    public static void checkParked(@Nullable Screen current) {
+        YieldDashboardScreen dashboard = parked;
+        if (dashboard == null) return;
+
+        Screen screen = current;
+        while (screen != dashboard && screen instanceof ChildScreen child) {
+            screen = child.getParentScreen();
+        }
+        if (screen != dashboard) {
+            releaseParked();
+        } else if (current == dashboard) {
+            // Back on the dashboard: its own removed() releases the listeners from now on
+            parked = null;
+        }
+    }
+
+    /**
+     * Releases the listeners of a dashboard parked behind its child screens, e.g. when leaving the world.
+     */
+    public static void releaseParked() {
+        if (parked != null) {
+            parked.releaseListeners();
+            parked = null;
+        }
+    }
+
+    private void releaseListeners() {
+        services.eventBus().unregisterAll(listenerOwner);
+    }
+
     private void openItemSelector() {
         if (viewModel.getSelectedProject() == null) return;
-        this.minecraft.setScreen(new ItemSelectionScreen(this, this::handleJeiDrop, this::handleTagSelect));
+        openChild(new ItemSelectionScreen(this, this::handleJeiDrop, this::handleTagSelect));
     }
 
     public void updateUiState(YieldProject updatedProject) {
@@ -195,7 +267,7 @@ public class YieldDashboardScreen extends Screen {
         }
 
         Minecraft.getInstance().getSoundManager().play(SimpleSoundInstance.forUI(SoundEvents.UI_BUTTON_CLICK, 1.0F));
-        this.minecraft.setScreen(new GoalEditScreen(this, targetGoal, projectToPass, services));
+        openChild(new GoalEditScreen(this, targetGoal, projectToPass, services));
     }
 
     private void handleTagSelect(TagKey<Item> tag) {
@@ -210,7 +282,7 @@ public class YieldDashboardScreen extends Screen {
         services.projectController().updateProject(updated);
 
         Minecraft.getInstance().getSoundManager().play(SimpleSoundInstance.forUI(SoundEvents.UI_BUTTON_CLICK, 1.0F));
-        this.minecraft.setScreen(new GoalEditScreen(this, goal, updated, services));
+        openChild(new GoalEditScreen(this, goal, updated, services));
     }
 
     @Nullable
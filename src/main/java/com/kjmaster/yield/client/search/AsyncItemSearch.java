@@ -0,0 +1,114 @@
+package com.kjmaster.yield.client.search;
+
+import com.kjmaster.yield.Yield;
+import net.minecraft.client.Minecraft;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs the item and tag searches of one search box on a background thread.
+ * <p>
+ * Every submitted query supersedes the previous one: the running search notices the newer generation and stops,
+ * and a result is only published (on the client thread) if no newer query was submitted meanwhile. All searches share
+ * one worker thread, which also confines the incremental {@link ItemSearchIndex.Searcher} state and builds the indexes
+ * on first use. That thread is never interrupted: an interrupt landing in the index build's resource or registry
+ * reads could close the channels they read from.
+ */
+public class AsyncItemSearch {
+    private static final char TAG_PREFIX = '#';
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Yield-Search");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Client thread only
+    private long generation;
+    private Future<?> running;
+
+    // Written by the client thread, read by the worker to drop superseded work early
+    private volatile long latest;
+
+    // Worker thread only
+    private long searching;
+    private ItemSearchIndex.Searcher itemSearcher;
+    private TagSearchIndex.Searcher tagSearcher;
+
+    /**
+     * @param positions Matching positions in display order.
+     * @param items     The index the positions refer to, for item searches.
+     * @param tags      The index the positions refer to, for tag searches.
+     */
+    public record Result(int[] positions, @Nullable ItemSearchIndex items, @Nullable TagSearchIndex tags) {
+        public boolean isTagResult() {
+            return tags != null;
+        }
+    }
+
+    /**
+     * Starts a search, cancelling the previous one. Must be called on the client thread.
+     *
+     * @param onResult Receives the result on the client thread, unless it was superseded.
+     */
+    public void submit(String query, Consumer<Result> onResult) {
+        long id = ++generation;
+        latest = id;
+        if (running != null) running.cancel(false);
+
+        running = EXECUTOR.submit(() -> {
+            if (latest != id) return;
+            searching = id;
+
+            Result result;
+            try {
+                result = search(query);
+            } catch (CancellationException e) {
+                return;
+            } catch (RuntimeException e) {
+                Yield.LOGGER.error("Item search failed for query '{}'", query, e);
+                return;
+            }
+
+            Minecraft.getInstance().execute(() -> {
+                if (generation == id) onResult.accept(result);
+            });
+        });
+    }
+
+    /**
+     * Cancels the running search and drops any result that is still on its way. Must be called on the client thread.
+     */
+    public void cancel() {
+        latest = ++generation;
+        if (running != null) {
+            running.cancel(false);
+            running = null;
+        }
+    }
+
+    private Result search(String query) {
+        if (!query.isEmpty() && query.charAt(0) == TAG_PREFIX) {
+            // A rebuilt index (tag reload) invalidates the narrowing state
+            TagSearchIndex index = TagSearchIndex.get();
+            if (tagSearcher == null || tagSearcher.index() != index) tagSearcher = index.newSearcher(this::isSuperseded);
+            return new Result(tagSearcher.search(query.substring(1)), null, index);
+        }
+
+        ItemSearchIndex index = ItemSearchIndex.get();
+        if (itemSearcher == null || itemSearcher.index() != index) itemSearcher = index.newSearcher(this::isSuperseded);
+        return new Result(itemSearcher.search(query), index, null);
+    }
+
+    /**
+     * Worker thread. Polled by the searchers, so a superseded search stops early.
+     */
+    private boolean isSuperseded() {
+        return latest != searching;
+    }
+}
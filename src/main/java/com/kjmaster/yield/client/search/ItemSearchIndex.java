@@ -0,0 +1,259 @@
+package com.kjmaster.yield.client.search;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.fml.ModList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Search index over every registered item, built once per session (and again if the language changes).
+ * <p>
+ * Each item is indexed by its lowercased display name, registry ID and mod name. Plain terms match the name or the
+ * ID; terms starting with {@code @} match a prefix of the mod ID or mod name. All terms of a query must match.
+ * Terms of three or more characters are looked up through a trigram index, so only items sharing the term's rarest
+ * trigram are checked. Shorter queries narrow the previous result instead (see {@link Searcher}).
+ * <p>
+ * Instances are immutable once built, so they can be built and searched off the render thread. A searcher's search
+ * stops early with a {@link CancellationException} once its owner reports it as superseded.
+ */
+public final class ItemSearchIndex {
+
+    private static final char MOD_PREFIX = '@';
+    // Cancellation is checked once every this many + 1 positions
+    static final int CANCEL_CHECK_MASK = 1023;
+
+    private static ItemSearchIndex instance;
+
+    private final String language;
+
+    // Parallel Arrays, in display order (Sorted by name)
+    private final Item[] items;
+    private final String[] names;
+    private final String[] ids;
+    private final String[] modIds;
+    private final String[] modNames;
+
+    // Trigram of "name\nid" -> Ascending item positions
+    private final Long2ObjectMap<int[]> trigrams;
+    private final int[] all;
+
+    private ItemSearchIndex(String language, Item[] items, String[] names, String[] ids, String[] modIds,
+                            String[] modNames, Long2ObjectMap<int[]> trigrams) {
+        this.language = language;
+        this.items = items;
+        this.names = names;
+        this.ids = ids;
+        this.modIds = modIds;
+        this.modNames = modNames;
+        this.trigrams = trigrams;
+        this.all = new int[items.length];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+    }
+
+    /**
+     * @return The index for the current language, building it on first use.
+     */
+    public static synchronized ItemSearchIndex get() {
+        String language = currentLanguage();
+        if (instance == null || !instance.language.equals(language)) {
+            instance = build(language);
+        }
+        return instance;
+    }
+
+    private static String currentLanguage() {
+        return Minecraft.getInstance().getLanguageManager().getSelected();
+    }
+
+    private static ItemSearchIndex build(String language) {
+        record Entry(Item item, String name, String sortKey, ResourceLocation id) {
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (item == Items.AIR) continue;
+            String sortKey = item.getDescription().getString();
+            String name = new ItemStack(item).getHoverName().getString().toLowerCase(Locale.ROOT);
+            entries.add(new Entry(item, name, sortKey, BuiltInRegistries.ITEM.getKey(item)));
+        }
+        entries.sort(Comparator.comparing(Entry::sortKey));
+
+        int size = entries.size();
+        Item[] items = new Item[size];
+        String[] names = new String[size];
+        String[] ids = new String[size];
+        String[] modIds = new String[size];
+        String[] modNames = new String[size];
+        Map<String, String> modNameCache = new HashMap<>();
+        Long2ObjectMap<IntArrayList> postings = new Long2ObjectOpenHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            items[i] = entry.item();
+            names[i] = entry.name();
+            ids[i] = entry.id().toString();
+            modIds[i] = entry.id().getNamespace();
+            modNames[i] = modNameCache.computeIfAbsent(modIds[i], ItemSearchIndex::modName);
+
+            String haystack = names[i] + '\n' + ids[i];
+            for (int c = 0; c + 3 <= haystack.length(); c++) {
+                IntArrayList list = postings.computeIfAbsent(trigram(haystack, c), k -> new IntArrayList());
+                // Positions arrive in ascending order; skip repeats of a trigram within one item
+                if (list.isEmpty() || list.getInt(list.size() - 1) != i) list.add(i);
+            }
+        }
+
+        Long2ObjectMap<int[]> trigrams = new Long2ObjectOpenHashMap<>(postings.size());
+        for (Long2ObjectMap.Entry<IntArrayList> entry : postings.long2ObjectEntrySet()) {
+            trigrams.put(entry.getLongKey(), entry.getValue().toIntArray());
+        }
+        return new ItemSearchIndex(language, items, names, ids, modIds, modNames, trigrams);
+    }
+
+    private static String modName(String modId) {
+        return ModList.get().getModContainerById(modId)
+                .map(container -> container.getModInfo().getDisplayName())
+                .orElse(modId)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(CharSequence text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public Item item(int position) {
+        return items[position];
+    }
+
+    /**
+     * @return A fresh searcher. Searchers are cheap and hold the state for incremental narrowing.
+     */
+    /**
+     * @param cancelled Polled during a search; once it returns true, the search stops early.
+     */
+    public Searcher newSearcher(BooleanSupplier cancelled) {
+        return new Searcher(cancelled);
+    }
+
+    /**
+     * Runs a query against the whole index.
+     *
+     * @return Matching positions in display order.
+     */
+    public int[] search(String query) {
+        return filter(parse(query), null, () -> false);
+    }
+
+    private static String[] parse(String query) {
+        String trimmed = query.toLowerCase(Locale.ROOT).trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    /**
+     * @param candidates Positions known to be a superset of the result, or null for the whole index.
+     */
+    private int[] filter(String[] terms, int[] candidates, BooleanSupplier cancelled) {
+        if (terms.length == 0) return candidates != null ? candidates : all;
+
+        // 1. Narrow to the rarest trigram of any plain term, unless the candidates are already smaller
+        int[] source = candidates != null ? candidates : all;
+        for (String term : terms) {
+            if (term.charAt(0) == MOD_PREFIX || term.length() < 3) continue;
+            for (int c = 0; c + 3 <= term.length(); c++) {
+                int[] posting = trigrams.get(trigram(term, c));
+                if (posting == null) return new int[0];
+                if (posting.length < source.length) source = posting;
+            }
+        }
+
+        // 2. Verify every term on the remaining positions
+        IntArrayList result = new IntArrayList();
+        for (int i = 0; i < source.length; i++) {
+            if ((i & CANCEL_CHECK_MASK) == 0) checkCancelled(cancelled);
+            int position = source[i];
+            if (candidates != null && source != candidates && !contains(candidates, position)) continue;
+            if (matchesAll(position, terms)) result.add(position);
+        }
+        return result.toIntArray();
+    }
+
+    static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) throw new CancellationException();
+    }
+
+    private boolean matchesAll(int position, String[] terms) {
+        for (String term : terms) {
+            if (!matches(position, term)) return false;
+        }
+        return true;
+    }
+
+    private boolean matches(int position, String term) {
+        if (term.charAt(0) == MOD_PREFIX) {
+            String mod = term.substring(1);
+            return modIds[position].startsWith(mod) || modNames[position].startsWith(mod);
+        }
+        return names[position].contains(term) || ids[position].contains(term);
+    }
+
+    private static boolean contains(int[] sortedPositions, int position) {
+        return Arrays.binarySearch(sortedPositions, position) >= 0;
+    }
+
+    /**
+     * Incremental query state for one search box.
+     * Typing more characters narrows the previous result instead of searching the whole index again.
+     */
+    public final class Searcher {
+        private final BooleanSupplier cancelled;
+        private String lastQuery;
+        private int[] lastResult;
+
+        private Searcher(BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+        }
+
+        /**
+         * @return Matching positions in display order.
+         */
+        public int[] search(String query) {
+            String normalized = query.toLowerCase(Locale.ROOT);
+            String[] terms = parse(normalized);
+
+            // Appending to the query only ever removes matches, so the previous result is a superset
+            int[] candidates = null;
+            if (lastQuery != null && !lastQuery.isBlank() && normalized.startsWith(lastQuery)) {
+                candidates = lastResult;
+            }
+
+            int[] result = filter(terms, candidates, cancelled);
+            this.lastQuery = normalized;
+            this.lastResult = result;
+            return result;
+        }
+
+        public ItemSearchIndex index() {
+            return ItemSearchIndex.this;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.kjmaster.yield.client.search;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sorted list of every item tag, with its lowercased ID and a display icon, cached until tags are reloaded.
+ * <p>
+ * Tag queries are plain substring matches against the tag ID. Instances are immutable once built.
+ */
+public final class TagSearchIndex {
+
+    private static TagSearchIndex instance;
+
+    // Parallel Arrays, in display order (Sorted by ID)
+    private final List<TagKey<Item>> tags;
+    private final String[] ids;
+    private final Item[] icons;
+    private final int[] all;
+
+    private TagSearchIndex(List<TagKey<Item>> tags, String[] ids, Item[] icons) {
+        this.tags = tags;
+        this.ids = ids;
+        this.icons = icons;
+        this.all = new int[tags.size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+    }
+
+    /**
+     * @return The index for the current tags, building it on first use.
+     */
+    public static synchronized TagSearchIndex get() {
+        if (instance == null) {
+            instance = build();
+        }
+        return instance;
+    }
+
+    /**
+     * Drops the cached index. Called when the client receives new tags.
+     */
+    public static synchronized void invalidate() {
+        instance = null;
+    }
+
+    private static TagSearchIndex build() {
+        record Entry(TagKey<Item> tag, String id, Item icon) {
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        BuiltInRegistries.ITEM.getTags().forEach(pair -> {
+            // The first member stands in for the tag (Empty tags get a placeholder)
+            Item icon = pair.getSecond().stream().findFirst().map(Holder::value).orElse(Items.BARRIER);
+            TagKey<Item> tag = pair.getFirst();
+            entries.add(new Entry(tag, tag.location().toString(), icon));
+        });
+        entries.sort(Comparator.comparing(Entry::id));
+
+        int size = entries.size();
+        List<TagKey<Item>> tags = new ArrayList<>(size);
+        String[] ids = new String[size];
+        Item[] icons = new Item[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            tags.add(entry.tag());
+            ids[i] = entry.id().toLowerCase(Locale.ROOT);
+            icons[i] = entry.icon();
+        }
+        return new TagSearchIndex(List.copyOf(tags), ids, icons);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public TagKey<Item> tag(int position) {
+        return tags.get(position);
+    }
+
+    public Item icon(int position) {
+        return icons[position];
+    }
+
+    /**
+     * @return A fresh searcher holding the state for incremental narrowing.
+     */
+    /**
+     * @param cancelled Polled during a search; once it returns true, the search stops early.
+     */
+    public Searcher newSearcher(BooleanSupplier cancelled) {
+        return new Searcher(cancelled);
+    }
+
+    /**
+     * @param candidates Positions known to be a superset of the result, or null for all tags.
+     */
+    private int[] filter(String query, int[] candidates, BooleanSupplier cancelled) {
+        int[] source = candidates != null ? candidates : all;
+        if (query.isEmpty()) return source;
+
+        IntArrayList result = new IntArrayList();
+        for (int i = 0; i < source.length; i++) {
+            if ((i & ItemSearchIndex.CANCEL_CHECK_MASK) == 0) ItemSearchIndex.checkCancelled(cancelled);
+            if (ids[source[i]].contains(query)) result.add(source[i]);
+        }
+        return result.toIntArray();
+    }
+
+    /**
+     * Incremental query state for one search box (see {@link ItemSearchIndex.Searcher}).
+     */
+    public final class Searcher {
+        private final BooleanSupplier cancelled;
+        private String lastQuery;
+        private int[] lastResult;
+
+        private Searcher(BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+        }
+
+        /**
+         * @param query The query without its leading {@code #}.
+         * @return Matching positions in display order.
+         */
+        public int[] search(String query) {
+            String normalized = query.toLowerCase(Locale.ROOT).trim();
+
+            int[] candidates = null;
+            if (lastQuery != null && !lastQuery.isEmpty() && normalized.startsWith(lastQuery)) {
+                candidates = lastResult;
+            }
+
+            int[] result = filter(normalized, candidates, cancelled);
+            this.lastQuery = normalized;
+            this.lastResult = result;
+            return result;
+        }
+
+        public TagSearchIndex index() {
+            return TagSearchIndex.this;
+        }
+    }
+}
@@ -22,10 +22,13 @@ public class DashboardViewModel {
     // View Events
     private Consumer<YieldProject> onSelectionChanged;
 
-    public DashboardViewModel(YieldServices services) {
+    /**
+     * @param listenerOwner Token the domain listeners are registered under; the screen releases them with it.
+     */
+    public DashboardViewModel(YieldServices services, Object listenerOwner) {
         this.services = services;
         initializeSelection();
-        registerDomainListeners();
+        registerDomainListeners(listenerOwner);
     }
 
     public void setOnSelectionChanged(Consumer<YieldProject> listener) {
@@ -43,19 +46,19 @@ public class DashboardViewModel {
         }
     }
 
-    private void registerDomainListeners() {
+    private void registerDomainListeners(Object listenerOwner) {
         // If the active project changes (e.g. from hotkey), sync selection
-        services.eventBus().register(YieldEvents.ActiveProjectChanged.class, event -> {
+        services.eventBus().register(listenerOwner, YieldEvents.ActiveProjectChanged.class, event -> {
             updateSelection(event.newActiveProject());
         });
 
         // If projects are deleted/loaded, validate selection
-        services.eventBus().register(YieldEvents.ProjectListChanged.class, event -> {
+        services.eventBus().register(listenerOwner, YieldEvents.ProjectListChanged.class, event -> {
             validateSelection();
         });
 
         // If the currently selected project is updated (e.g. name change), refresh reference
-        services.eventBus().register(YieldEvents.ProjectUpdated.class, event -> {
+        services.eventBus().register(listenerOwner, YieldEvents.ProjectUpdated.class, event -> {
             if (selectedProject != null && selectedProject.id().equals(event.project().id())) {
                 updateSelection(event.project());
             }
@@ -0,0 +1,28 @@
+package com.kjmaster.yield.compat.curios;
+
+import com.kjmaster.yield.event.YieldInventoryHandler;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
+
+/**
+ * Forwards Curios equipment changes to the inventory handler, scoped to the Curios provider.
+ * Kept separate so Curios classes are only loaded when the mod is present.
+ * The event is server-side, so it only arrives with an integrated server. On a dedicated server, the Curios watcher
+ * keeps polling at the legacy rate instead (see {@link com.kjmaster.yield.tracker.InventoryMonitor}).
+ */
+public class CuriosEventHandler {
+
+    private final YieldInventoryHandler inventoryHandler;
+
+    public CuriosEventHandler(YieldInventoryHandler inventoryHandler) {
+        this.inventoryHandler = inventoryHandler;
+    }
+
+    @SubscribeEvent
+    public void onCurioChange(CurioChangeEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            inventoryHandler.markIfLocal(player, CuriosInventoryProvider.ID);
+        }
+    }
+}
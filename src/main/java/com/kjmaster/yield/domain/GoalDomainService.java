@@ -37,13 +37,13 @@ public class GoalDomainService {
         if (!merged) {
             newGoals.add(goal);
         }
-        return new YieldProject(project.name(), project.id(), Collections.unmodifiableList(newGoals), project.trackXp());
+        return project.withGoals(Collections.unmodifiableList(newGoals));
     }
 
     public YieldProject removeGoal(YieldProject project, ProjectGoal goal) {
         List<ProjectGoal> newGoals = new ArrayList<>(project.goals());
         newGoals.removeIf(g -> g.id().equals(goal.id()));
-        return new YieldProject(project.name(), project.id(), Collections.unmodifiableList(newGoals), project.trackXp());
+        return project.withGoals(Collections.unmodifiableList(newGoals));
     }
 
     public YieldProject updateGoal(YieldProject project, ProjectGoal newGoalData) {
@@ -54,7 +54,7 @@ public class GoalDomainService {
                 break;
             }
         }
-        return new YieldProject(project.name(), project.id(), Collections.unmodifiableList(newGoals), project.trackXp());
+        return project.withGoals(Collections.unmodifiableList(newGoals));
     }
 
     /**
@@ -0,0 +1,66 @@
+package com.kjmaster.yield.event;
+
+import com.kjmaster.yield.Yield;
+import com.kjmaster.yield.metrics.YieldMetrics;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.RegisterClientCommandsEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Client-side debug commands.
+ * <ul>
+ *     <li>{@code /yield metrics} prints the tracker and overlay metrics to chat.</li>
+ *     <li>{@code /yield metrics dump} writes them to {@code yield_data/metrics} in the game directory.</li>
+ *     <li>{@code /yield metrics reset} clears them, e.g. after changing a config value.</li>
+ * </ul>
+ */
+public class YieldCommandHandler {
+
+    @SubscribeEvent
+    public void onRegisterClientCommands(RegisterClientCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal("yield")
+                .then(Commands.literal("metrics")
+                        .executes(this::showMetrics)
+                        .then(Commands.literal("dump").executes(this::dumpMetrics))
+                        .then(Commands.literal("reset").executes(this::resetMetrics))));
+    }
+
+    private int showMetrics(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        if (!YieldMetrics.isEnabled()) {
+            source.sendFailure(Component.literal("Yield metrics are disabled in the config."));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("Yield Metrics").withStyle(ChatFormatting.GOLD), false);
+        for (String line : YieldMetrics.report()) {
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    private int dumpMetrics(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        try {
+            Path file = YieldMetrics.dump();
+            source.sendSuccess(() -> Component.literal("Yield metrics written to " + file.toAbsolutePath()), false);
+            return 1;
+        } catch (IOException e) {
+            Yield.LOGGER.error("Failed to write Yield metrics", e);
+            source.sendFailure(Component.literal("Failed to write Yield metrics: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private int resetMetrics(CommandContext<CommandSourceStack> context) {
+        YieldMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("Yield metrics reset."), false);
+        return 1;
+    }
+}
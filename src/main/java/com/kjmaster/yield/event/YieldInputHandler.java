@@ -91,6 +91,9 @@ public class YieldInputHandler {
             return;
         }
 
+        // The project list is incomplete until loading finishes; don't create a duplicate "New Project"
+        if (services.projectProvider().isLoading()) return;
+
         List<YieldProject> allProjects = services.projectProvider().getProjects();
         if (allProjects.isEmpty()) {
             services.projectController().createProject("New Project");
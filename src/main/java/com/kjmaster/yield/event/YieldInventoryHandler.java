@@ -0,0 +1,81 @@
+package com.kjmaster.yield.event;
+
+import com.kjmaster.yield.YieldServices;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.ScreenEvent;
+import net.neoforged.neoforge.event.entity.item.ItemTossEvent;
+import net.neoforged.neoforge.event.entity.player.ItemEntityPickupEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+/**
+ * Marks the inventory dirty when an event reports a change, so the tracker doesn't have to hash every slot to find out.
+ * <p>
+ * Several of these events only fire on the logical server. In singleplayer they arrive on the integrated server
+ * thread with the server-side player, so players are matched by UUID and dirty marking is thread-safe.
+ * On remote servers the client-side events and the monitor's fallback polling cover the rest.
+ */
+public class YieldInventoryHandler {
+
+    private final YieldServices services;
+
+    public YieldInventoryHandler(YieldServices services) {
+        this.services = services;
+    }
+
+    @SubscribeEvent
+    public void onItemPickup(ItemEntityPickupEvent.Post event) {
+        markIfLocal(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+        markIfLocal(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onItemToss(ItemTossEvent event) {
+        markIfLocal(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public void onContainerClose(PlayerContainerEvent.Close event) {
+        markIfLocal(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onScreenClosing(ScreenEvent.Closing event) {
+        // Client-side counterpart of the container close event, fires on remote servers too
+        if (event.getScreen() instanceof AbstractContainerScreen<?>) {
+            services.sessionController().setDirty();
+        }
+    }
+
+    /**
+     * Marks the inventory dirty if the player is the local player (or its integrated server counterpart).
+     * Item movement events can land in any provider (e.g. a backpack equipped as a curio), so every provider is marked.
+     * May run on the integrated server thread.
+     */
+    public void markIfLocal(Player player) {
+        if (isLocal(player)) {
+            services.sessionController().setDirty();
+        }
+    }
+
+    /**
+     * Marks a single provider dirty if the player is the local player. May run on the integrated server thread.
+     */
+    public void markIfLocal(Player player, String providerId) {
+        if (isLocal(player)) {
+            services.sessionController().setDirty(providerId);
+        }
+    }
+
+    private static boolean isLocal(Player player) {
+        Player localPlayer = Minecraft.getInstance().player;
+        return player != null && localPlayer != null && player.getUUID().equals(localPlayer.getUUID());
+    }
+}
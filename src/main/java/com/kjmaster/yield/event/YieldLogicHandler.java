@@ -1,11 +1,15 @@
 package com.kjmaster.yield.event;
 
 import com.kjmaster.yield.YieldServices;
+import com.kjmaster.yield.client.screen.YieldDashboardScreen;
+import com.kjmaster.yield.client.search.TagSearchIndex;
+import com.kjmaster.yield.tracker.TagMembershipCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 
 public class YieldLogicHandler {
@@ -36,11 +40,24 @@ public class YieldLogicHandler {
         services.projectController().save();
         services.projectController().clear();
         services.sessionController().stopSession();
+        YieldDashboardScreen.releaseParked();
         pendingLoad = false;
     }
 
+    @SubscribeEvent
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        // Only the client's copy of the tags matters for matching (Integrated servers fire this too)
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) {
+            TagMembershipCache.invalidateAll();
+            TagSearchIndex.invalidate();
+        }
+    }
+
     @SubscribeEvent
     public void onClientTick(ClientTickEvent.Post event) {
+        // A dashboard's child screen may have been replaced by a screen that never returns to it
+        YieldDashboardScreen.checkParked(Minecraft.getInstance().screen);
+
         Player player = Minecraft.getInstance().player;
         if (player != null) {
             services.sessionController().onTick(player);
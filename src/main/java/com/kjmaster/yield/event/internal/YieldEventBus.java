@@ -1,30 +1,92 @@
 package com.kjmaster.yield.event.internal;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * A lightweight, synchronous event bus for internal domain events.
  * Decouples Logic (Producers) from UI (Consumers).
+ * <p>
+ * Listeners are stored in copy-on-write arrays: registering and unregistering copy the array of one event type,
+ * while {@link #post} only iterates the current array, so posting allocates nothing and listeners may
+ * (un)register during dispatch. Short-lived listeners (e.g. screen widgets) register with an owner and are removed
+ * together through {@link #unregisterAll}.
+ * <p>
+ * Not thread-safe: register, unregister and post on the client thread.
  */
 public class YieldEventBus {
-    private final Map<Class<?>, List<Consumer<?>>> subscribers = new HashMap<>();
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
 
+    private final Map<Class<?>, Subscription[]> subscribers = new HashMap<>();
+
+    /**
+     * Registers a listener for the lifetime of the bus.
+     */
     public <T> void register(Class<T> eventType, Consumer<T> listener) {
-        subscribers.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+        register(null, eventType, listener);
+    }
+
+    /**
+     * Registers a listener that is removed by {@link #unregisterAll} for the same owner.
+     */
+    public <T> void register(Object owner, Class<T> eventType, Consumer<T> listener) {
+        Subscription subscription = new Subscription(owner, listener);
+        Subscription[] current = subscribers.getOrDefault(eventType, NO_SUBSCRIPTIONS);
+        Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = subscription;
+        subscribers.put(eventType, updated);
+    }
+
+    /**
+     * Removes every listener registered with the given owner.
+     */
+    public void unregisterAll(Object owner) {
+        subscribers.replaceAll((type, current) -> {
+            int kept = 0;
+            for (Subscription subscription : current) {
+                if (subscription.owner != owner) kept++;
+            }
+            if (kept == current.length) return current;
+
+            Subscription[] updated = new Subscription[kept];
+            int i = 0;
+            for (Subscription subscription : current) {
+                if (subscription.owner != owner) {
+                    updated[i++] = subscription;
+                } else {
+                    subscription.active = false;
+                }
+            }
+            return updated;
+        });
     }
 
     @SuppressWarnings("unchecked")
     public <T> void post(T event) {
-        List<Consumer<?>> listeners = subscribers.get(event.getClass());
-        if (listeners != null) {
-            // Copy list to avoid ConcurrentModificationException if a listener unregisters during execution
-            for (Consumer<?> listener : new ArrayList<>(listeners)) {
-                ((Consumer<T>) listener).accept(event);
+        Subscription[] listeners = subscribers.get(event.getClass());
+        if (listeners == null) return;
+
+        // The array is never mutated, so removals during dispatch are only seen through the active flag
+        for (Subscription subscription : listeners) {
+            if (subscription.active) {
+                ((Consumer<T>) subscription.listener).accept(event);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * One registered listener. Deactivated when it is unregistered, so a dispatch already in progress skips it.
+     */
+    private static final class Subscription {
+        private final Object owner;
+        private final Consumer<?> listener;
+        private boolean active = true;
+
+        private Subscription(Object owner, Consumer<?> listener) {
+            this.owner = owner;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.kjmaster.yield.manager;
+
+import com.kjmaster.yield.Yield;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Crash-safe file replacement.
+ * <p>
+ * Content is written to a temp file next to the target, flushed to disk, then moved over the target in one step.
+ * A crash at any point leaves either the old or the new file intact, never a partial one.
+ */
+final class AtomicFiles {
+    static final String TEMP_EXTENSION = ".tmp";
+
+    @FunctionalInterface
+    interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    static void write(File target, Writer writer) throws IOException {
+        Path targetPath = target.toPath();
+        Path temp = targetPath.resolveSibling(target.getName() + TEMP_EXTENSION);
+
+        try (FileOutputStream fileOut = new FileOutputStream(temp.toFile())) {
+            BufferedOutputStream out = new BufferedOutputStream(fileOut);
+            // Writers may close the stream they are given (NbtIo does); the descriptor must stay open for the sync
+            writer.write(new CloseShieldOutputStream(out));
+            out.flush();
+            // fsync: the data must be on disk before the rename makes it visible
+            fileOut.getFD().sync();
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        try {
+            Files.move(temp, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Some file systems can't rename atomically; a plain replace is still safer than writing in place
+            Files.move(temp, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Passes writes through, but only flushes on close.
+     */
+    private static final class CloseShieldOutputStream extends FilterOutputStream {
+        CloseShieldOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // FilterOutputStream would write byte by byte
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Removes temp files left behind by a crash mid-write. Their targets are still intact.
+     */
+    static void deleteLeftovers(File dir) {
+        File[] leftovers = dir.listFiles((d, name) -> name.endsWith(TEMP_EXTENSION));
+        if (leftovers == null) return;
+        for (File file : leftovers) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                Yield.LOGGER.warn("Could not delete leftover temp file: {}", file.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.kjmaster.yield.manager;
+
+import com.kjmaster.yield.Yield;
+import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.project.YieldProject;
+import com.mojang.serialization.DataResult;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary project storage.
+ * <p>
+ * Every project is stored as compressed NBT in {@code <id>.dat}. A small {@code index.dat} lists the ID, name and
+ * settings of every project, so loading only reads the index; each project's goal list is read and decoded on first
+ * access (see {@link LazyGoalList}). Project files missing from the index (e.g. after a crash between the two
+ * writes) are loaded eagerly.
+ * <p>
+ * Writes may come from the save threads while the client thread loads, so all index access is synchronized.
+ * <p>
+ * A project whose goals fail to read is marked unreadable: it would otherwise be saved with no goals over its
+ * intact file, so {@link ProjectRepository} refuses to save it until it is loaded successfully again.
+ */
+class BinaryProjectStore {
+    static final String EXTENSION = ".dat";
+    private static final String INDEX_FILE = "index.dat";
+    private static final String PROJECTS_KEY = "projects";
+    private static final String GOALS_KEY = "goals";
+
+    // In-memory copy of the index of one directory (Insertion order == listing order)
+    private File indexDir;
+    private final Map<UUID, YieldProject> index = new LinkedHashMap<>();
+
+    // Projects whose lazily read goals failed to load (Written by whichever thread decoded them)
+    private final Set<UUID> unreadable = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Lists the projects in a directory. Goal lists are bound lazily.
+     */
+    synchronized List<YieldProject> loadAll(File dir) {
+        Map<UUID, YieldProject> entries = indexFor(dir);
+        List<YieldProject> projects = new ArrayList<>(entries.size());
+
+        // 1. Indexed projects: goals are only read when first needed
+        entries.values().removeIf(entry -> {
+            File file = projectFile(dir, entry.id());
+            if (file.exists()) return false;
+            Yield.LOGGER.warn("Project {} is listed in the index but its file is missing", entry.id());
+            return true;
+        });
+        for (YieldProject entry : entries.values()) {
+            File file = projectFile(dir, entry.id());
+            UUID id = entry.id();
+            unreadable.remove(id);
+            projects.add(entry.withGoals(new LazyGoalList(() -> readGoals(file), () -> unreadable.add(id))));
+        }
+
+        // 2. Project files the index doesn't know about
+        File[] files = dir.listFiles((d, name) -> name.endsWith(EXTENSION) && !name.equals(INDEX_FILE));
+        if (files != null) {
+            for (File file : files) {
+                UUID id = idOf(file);
+                if (id == null || entries.containsKey(id)) continue;
+
+                YieldProject project = readProject(file);
+                if (project != null) {
+                    projects.add(project);
+                    entries.put(project.id(), summaryOf(project));
+                }
+            }
+        }
+        return projects;
+    }
+
+    /**
+     * Writes every project file, then the index once for the whole batch.
+     * Project files are independent, so batches may be saved in parallel; only the index update is serialized.
+     *
+     * @return The IDs of the projects that were written successfully.
+     */
+    Set<UUID> saveAll(Collection<YieldProject> projects, File dir) {
+        List<YieldProject> saved = new ArrayList<>(projects.size());
+        for (YieldProject project : projects) {
+            CompoundTag tag = encode(project);
+            if (tag == null) continue;
+
+            try {
+                AtomicFiles.write(projectFile(dir, project.id()), out -> NbtIo.writeCompressed(tag, out));
+                saved.add(project);
+            } catch (IOException e) {
+                Yield.LOGGER.error("Could not save project: " + project.name(), e);
+            }
+        }
+        if (saved.isEmpty()) return Set.of();
+
+        // A failed index write leaves the new files unindexed, which the next load picks up eagerly
+        synchronized (this) {
+            Map<UUID, YieldProject> entries = indexFor(dir);
+            saved.forEach(project -> entries.put(project.id(), summaryOf(project)));
+            writeIndex(dir, entries);
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        saved.forEach(project -> ids.add(project.id()));
+        return ids;
+    }
+
+    synchronized void deleteAll(Collection<UUID> ids, File dir) {
+        Map<UUID, YieldProject> entries = indexFor(dir);
+        boolean indexChanged = false;
+        for (UUID id : ids) {
+            File file = projectFile(dir, id);
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                Yield.LOGGER.error("Failed to delete project file: " + file.getName(), e);
+            }
+            indexChanged |= entries.remove(id) != null;
+        }
+
+        if (indexChanged) writeIndex(dir, entries);
+    }
+
+    /**
+     * @return true if the project's goals could not be read, so saving it would drop them.
+     */
+    boolean isUnreadable(UUID id) {
+        return unreadable.contains(id);
+    }
+
+    /**
+     * @return The modification time of the project's file, or 0 if it has none.
+     */
+    long lastModified(UUID id, File dir) {
+        return projectFile(dir, id).lastModified();
+    }
+
+    static File projectFile(File dir, UUID id) {
+        return new File(dir, id.toString() + EXTENSION);
+    }
+
+    // --- Index ---
+
+    private Map<UUID, YieldProject> indexFor(File dir) {
+        if (dir.equals(indexDir)) return index;
+
+        index.clear();
+        indexDir = dir;
+        File file = new File(dir, INDEX_FILE);
+        if (!file.exists()) return index;
+
+        try {
+            CompoundTag root = NbtIo.readCompressed(file.toPath(), NbtAccounter.unlimitedHeap());
+            ListTag list = root.getList(PROJECTS_KEY, Tag.TAG_COMPOUND);
+            for (int i = 0; i < list.size(); i++) {
+                YieldProject.CODEC.parse(NbtOps.INSTANCE, list.getCompound(i))
+                        .resultOrPartial(err -> Yield.LOGGER.error("Failed to parse project index entry: {}", err))
+                        .ifPresent(entry -> index.put(entry.id(), entry));
+            }
+        } catch (IOException e) {
+            // The project files are still intact: they are picked up as unindexed files
+            Yield.LOGGER.error("Could not read project index, rebuilding it", e);
+        }
+        return index;
+    }
+
+    private void writeIndex(File dir, Map<UUID, YieldProject> entries) {
+        ListTag list = new ListTag();
+        for (YieldProject entry : entries.values()) {
+            CompoundTag tag = encode(entry);
+            if (tag != null) list.add(tag);
+        }
+
+        CompoundTag root = new CompoundTag();
+        root.put(PROJECTS_KEY, list);
+        try {
+            AtomicFiles.write(new File(dir, INDEX_FILE), out -> NbtIo.writeCompressed(root, out));
+        } catch (IOException e) {
+            Yield.LOGGER.error("Could not save project index", e);
+        }
+    }
+
+    // An index entry is the project without its goals, so it shares the project codec
+    private static YieldProject summaryOf(YieldProject project) {
+        return project.withGoals(Collections.emptyList());
+    }
+
+    // --- Project Files ---
+
+    private static CompoundTag encode(YieldProject project) {
+        return YieldProject.CODEC.encodeStart(NbtOps.INSTANCE, project)
+                .resultOrPartial(err -> Yield.LOGGER.error("Serialization error for project {}: {}", project.name(), err))
+                .filter(CompoundTag.class::isInstance)
+                .map(CompoundTag.class::cast)
+                .orElse(null);
+    }
+
+    private static YieldProject readProject(File file) {
+        try {
+            CompoundTag tag = NbtIo.readCompressed(file.toPath(), NbtAccounter.unlimitedHeap());
+            return YieldProject.CODEC.parse(NbtOps.INSTANCE, tag)
+                    .resultOrPartial(err -> Yield.LOGGER.error("Failed to parse project {}: {}", file.getName(), err))
+                    .orElse(null);
+        } catch (IOException e) {
+            Yield.LOGGER.error("Could not load project file: " + file.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads and decodes only the goal list of a project file.
+     *
+     * @return The goals, or null if the file can't be read or any goal fails to parse.
+     */
+    @Nullable
+    private static List<ProjectGoal> readGoals(File file) {
+        try {
+            CompoundTag tag = NbtIo.readCompressed(file.toPath(), NbtAccounter.unlimitedHeap());
+            DataResult<List<ProjectGoal>> result = ProjectGoal.CODEC.listOf()
+                    .parse(NbtOps.INSTANCE, tag.getList(GOALS_KEY, Tag.TAG_COMPOUND));
+            if (result.error().isPresent()) {
+                // A partial list would lose the goals that failed to parse once the project is saved again
+                Yield.LOGGER.error("Failed to parse goals of {}: {}", file.getName(), result.error().get().message());
+                return null;
+            }
+            return result.result().orElse(null);
+        } catch (IOException e) {
+            Yield.LOGGER.error("Could not load project file: " + file.getName(), e);
+            return null;
+        }
+    }
+
+    private static UUID idOf(File file) {
+        String name = file.getName();
+        try {
+            return UUID.fromString(name.substring(0, name.length() - EXTENSION.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
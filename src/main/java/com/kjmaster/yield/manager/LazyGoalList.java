@@ -0,0 +1,64 @@
+package com.kjmaster.yield.manager;
+
+import com.kjmaster.yield.project.ProjectGoal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Read-only goal list that is only read from disk and decoded on first access.
+ * <p>
+ * Projects loaded from the binary index carry one of these, so listing projects (names, IDs) never decodes
+ * goals; the cost is paid once a project is selected or activated. The list keeps its identity after loading,
+ * so identity checks against {@link com.kjmaster.yield.project.YieldProject#goals()} keep working.
+ * <p>
+ * If the goals can't be read, the list reads as empty and reports the failure, so the owner can refuse to save the
+ * project over its intact file. Decoding runs on whichever thread first reads the list, unless it is prefetched.
+ */
+final class LazyGoalList extends AbstractList<ProjectGoal> implements RandomAccess {
+
+    // Returns null if the goals could not be read
+    private final Supplier<List<ProjectGoal>> loader;
+    private final Runnable onFailure;
+    private volatile List<ProjectGoal> goals;
+
+    LazyGoalList(Supplier<List<ProjectGoal>> loader, Runnable onFailure) {
+        this.loader = loader;
+        this.onFailure = onFailure;
+    }
+
+    private List<ProjectGoal> resolve() {
+        List<ProjectGoal> loaded = goals;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = goals;
+                if (loaded == null) {
+                    List<ProjectGoal> read = loader.get();
+                    if (read == null) {
+                        onFailure.run();
+                        read = List.of();
+                    }
+                    loaded = List.copyOf(read);
+                    goals = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    boolean isLoaded() {
+        return goals != null;
+    }
+
+    @Override
+    public ProjectGoal get(int index) {
+        return resolve().get(index);
+    }
+
+    @Override
+    public int size() {
+        return resolve().size();
+    }
+}
@@ -1,24 +1,45 @@
 package com.kjmaster.yield.manager;
 
+import com.kjmaster.yield.Yield;
 import com.kjmaster.yield.api.IProjectController;
 import com.kjmaster.yield.api.IProjectProvider;
 import com.kjmaster.yield.event.internal.YieldEventBus;
 import com.kjmaster.yield.event.internal.YieldEvents;
 import com.kjmaster.yield.project.YieldProject;
-import com.kjmaster.yield.util.Debouncer;
+import net.minecraft.client.Minecraft;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class ProjectManager implements IProjectProvider, IProjectController {
 
+    // Edits made within this window are written together
+    private static final long SAVE_DELAY_MILLIS = 2000;
+
     private final ProjectRepository repository;
     private final YieldEventBus eventBus;
-    private final Debouncer debouncer;
+    private final ProjectWriteQueue writeQueue;
+
+    // Background Loading (Single thread, so loads run in order)
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Yield-IO");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Executor mainThread = task -> Minecraft.getInstance().execute(task);
+    // Main Thread only: a load result is applied only if no newer load or clear happened since it started
+    private long loadGeneration = 0;
+    private boolean loading = false;
 
     private final List<YieldProject> projects = new ArrayList<>();
     private YieldProject activeProject;
@@ -28,7 +49,7 @@ public class ProjectManager implements IProjectProvider, IProjectController {
     public ProjectManager(ProjectRepository repository, YieldEventBus eventBus) {
         this.repository = repository;
         this.eventBus = eventBus;
-        this.debouncer = new Debouncer();
+        this.writeQueue = new ProjectWriteQueue(repository, SAVE_DELAY_MILLIS, success -> this.saveFailed = !success);
     }
 
     @Override
@@ -43,7 +64,8 @@ public class ProjectManager implements IProjectProvider, IProjectController {
     public void deleteProject(YieldProject project) {
         boolean removed = projects.removeIf(p -> p.id().equals(project.id()));
         if (removed) {
-            repository.deleteProject(project);
+            // Queued behind any pending save, so the deleted project can't be written back
+            writeQueue.enqueueDelete(project, repository.getStorageDirectory());
             if (activeProject != null && activeProject.id().equals(project.id())) {
                 setActiveProject(null);
             }
@@ -72,9 +94,20 @@ public class ProjectManager implements IProjectProvider, IProjectController {
     @Override
     public void setActiveProject(YieldProject project) {
         this.activeProject = project;
+        prefetchGoals(project);
         eventBus.post(new YieldEvents.ActiveProjectChanged(project));
     }
 
+    /**
+     * Decodes lazily stored goals on the I/O thread, so the tracker and overlay don't pay for it on the client thread.
+     * A read that is still running when they first touch the goals is waited for, not repeated.
+     */
+    private void prefetchGoals(YieldProject project) {
+        if (project != null && project.goals() instanceof LazyGoalList lazy && !lazy.isLoaded()) {
+            ioExecutor.execute(lazy::size);
+        }
+    }
+
     @Override
     public Optional<YieldProject> getActiveProject() {
         return Optional.ofNullable(activeProject);
@@ -85,6 +118,11 @@ public class ProjectManager implements IProjectProvider, IProjectController {
         return Collections.unmodifiableList(projects);
     }
 
+    @Override
+    public boolean isLoading() {
+        return loading;
+    }
+
     @Override
     public boolean hasSaveFailed() {
         return saveFailed;
@@ -95,27 +133,29 @@ public class ProjectManager implements IProjectProvider, IProjectController {
         this.projects.clear();
         this.activeProject = null;
         this.saveFailed = false;
+        // Discard any load still in flight
+        this.loadGeneration++;
+        this.loading = false;
         eventBus.post(new YieldEvents.ProjectListChanged());
     }
 
     @Override
     public void save() {
-        // Force save all (used on shutdown)
+        // Logout/shutdown flush: only projects modified since their last successful write
+        File contextDir = repository.getStorageDirectory();
         for (YieldProject p : projects) {
-            repository.saveProject(p);
+            if (writeQueue.hasUnsavedChanges(p.id())) {
+                writeQueue.enqueueSave(p, contextDir);
+            }
         }
+        writeQueue.flush();
     }
 
     private void scheduleSave(YieldProject project) {
         // Capture the current storage directory context immediately.
-        // This ensures that if the player switches worlds before the debounce timer fires,
+        // This ensures that if the player switches worlds before the queue flushes,
         // the save will still be written to the original world's folder.
-        File contextDir = repository.getStorageDirectory();
-
-        debouncer.debounce(() -> {
-            boolean success = repository.saveProject(project, contextDir);
-            this.saveFailed = !success;
-        }, 2, TimeUnit.SECONDS);
+        writeQueue.enqueueSave(project, repository.getStorageDirectory());
     }
 
     @Override
@@ -123,8 +163,40 @@ public class ProjectManager implements IProjectProvider, IProjectController {
         this.projects.clear();
         this.activeProject = null;
         this.saveFailed = false;
-        List<YieldProject> loaded = repository.loadAll();
-        this.projects.addAll(loaded);
+        this.loading = true;
+        long generation = ++loadGeneration;
+
+        // The directory depends on the current world, so it is resolved here; only the file I/O moves off-thread
+        File dir = repository.prepareLoad();
+        eventBus.post(new YieldEvents.ProjectListChanged());
+
+        CompletableFuture.supplyAsync(() -> {
+                    writeQueue.deleteLeftovers(dir);
+                    return repository.loadAll(dir);
+                }, ioExecutor)
+                .whenCompleteAsync((loaded, error) -> finishLoad(generation, loaded, error), mainThread);
+    }
+
+    /**
+     * Main Thread. Publishes the result of a background load.
+     */
+    private void finishLoad(long generation, List<YieldProject> loaded, Throwable error) {
+        // Superseded by a newer load, or the world was left meanwhile
+        if (generation != loadGeneration) return;
+        this.loading = false;
+
+        if (error != null) {
+            Yield.LOGGER.error("Failed to load projects", error);
+        } else {
+            // Projects created while the load was running are kept
+            Set<UUID> loadedIds = new HashSet<>();
+            loaded.forEach(p -> loadedIds.add(p.id()));
+            List<YieldProject> created = projects.stream().filter(p -> !loadedIds.contains(p.id())).toList();
+
+            projects.clear();
+            projects.addAll(loaded);
+            projects.addAll(created);
+        }
         eventBus.post(new YieldEvents.ProjectListChanged());
     }
 }
\ No newline at end of file
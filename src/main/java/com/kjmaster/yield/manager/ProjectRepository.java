@@ -3,6 +3,7 @@ package com.kjmaster.yield.manager;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.kjmaster.yield.Config;
 import com.kjmaster.yield.Yield;
 import com.kjmaster.yield.project.YieldProject;
 import com.mojang.serialization.JsonOps;
@@ -15,37 +16,65 @@ import org.apache.commons.codec.digest.DigestUtils;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class ProjectRepository {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final String DIR_NAME = "projects";
+    private static final String JSON_EXTENSION = ".json";
+
+    // Optional compact format, see Config.BINARY_STORAGE
+    private final BinaryProjectStore binaryStore = new BinaryProjectStore();
 
     // State: Cache the directory to ensure saves go to the same place files were loaded from,
     // regardless of Minecraft's shutdown state.
     private File cachedStorageDir;
 
     /**
-     * Loads all projects from the project directory.
-     * Updates the cached storage directory based on the current world state.
+     * Resolves and caches the storage directory for the current world.
+     * MUST be called on the Main Thread, as it inspects the client's world and server state.
+     *
+     * @return The directory to pass to {@link #loadAll(File)}.
      */
-    public List<YieldProject> loadAll() {
+    public File prepareLoad() {
         // Critical: Update cache ONLY on load.
         // This runs during EntityJoinLevel when the world is guaranteed to be valid.
         this.cachedStorageDir = calculateStorageDirectory();
+        return this.cachedStorageDir;
+    }
 
-        File dir = this.cachedStorageDir;
-        List<YieldProject> projects = new ArrayList<>();
+    /**
+     * Loads all projects from the given directory. Safe to call from a background thread.
+     * Temp files of interrupted writes are not cleaned up here, see {@link ProjectWriteQueue#deleteLeftovers}.
+     * <p>
+     * Both formats are read regardless of the configured one, so switching formats migrates projects on their
+     * next save. If a project exists in both, the more recently written file wins.
+     */
+    public List<YieldProject> loadAll(File dir) {
+        if (!dir.exists() || !dir.isDirectory()) return new ArrayList<>();
 
-        if (!dir.exists() || !dir.isDirectory()) return projects;
+        // 1. Binary projects (Goals decoded lazily)
+        Map<UUID, YieldProject> projects = new LinkedHashMap<>();
+        for (YieldProject project : binaryStore.loadAll(dir)) {
+            projects.put(project.id(), project);
+        }
 
-        File[] files = dir.listFiles((d, name) -> name.endsWith(".json"));
-        if (files == null) return projects;
+        // 2. JSON projects
+        File[] files = dir.listFiles((d, name) -> name.endsWith(JSON_EXTENSION));
+        if (files == null) return new ArrayList<>(projects.values());
 
         for (File file : files) {
             try (FileReader reader = new FileReader(file)) {
@@ -53,40 +82,65 @@ public class ProjectRepository {
                 if (json != null) {
                     YieldProject.CODEC.parse(JsonOps.INSTANCE, json)
                             .resultOrPartial(err -> Yield.LOGGER.error("Failed to parse project {}: {}", file.getName(), err))
-                            .ifPresent(projects::add);
+                            .filter(project -> !projects.containsKey(project.id())
+                                    || file.lastModified() > binaryStore.lastModified(project.id(), dir))
+                            .ifPresent(project -> projects.put(project.id(), project));
                 }
             } catch (IOException e) {
                 Yield.LOGGER.error("Could not load project file: " + file.getName(), e);
             }
         }
-        return projects;
+        return new ArrayList<>(projects.values());
     }
 
     /**
-     * Saves a specific project to its own file using the current storage directory.
+     * Saves several projects to the specified directory in one pass.
+     * Every file is replaced atomically (see {@link AtomicFiles}), so a crash mid-save never corrupts a project.
+     *
+     * @return The IDs of the projects that were written successfully.
      */
-    public boolean saveProject(YieldProject project) {
-        return saveProject(project, getStorageDirectory());
-    }
-
-    /**
-     * Saves a specific project to the specified directory.
-     * This ensures asynchronous tasks can write to the correct folder even if the
-     * active world (and thus the cached directory) changes before execution.
-     */
-    public boolean saveProject(YieldProject project, File directory) {
+    public Set<UUID> saveProjects(Collection<YieldProject> batch, File directory) {
         if (!directory.exists() && !directory.mkdirs()) {
             Yield.LOGGER.error("Could not create project directory: {}", directory.getAbsolutePath());
+            return Set.of();
+        }
+
+        // A project whose goals failed to read would be written without them; its file on disk is left intact
+        batch = batch.stream().filter(project -> {
+            if (!binaryStore.isUnreadable(project.id())) return true;
+            Yield.LOGGER.warn("Not saving project {}: its goals could not be read", project.name());
             return false;
+        }).toList();
+
+        if (Config.BINARY_STORAGE.get()) {
+            Set<UUID> saved = binaryStore.saveAll(batch, directory);
+            // Drop the JSON copies so they can't shadow newer binary saves
+            saved.forEach(id -> deleteFile(jsonFile(directory, id)));
+            return saved;
         }
 
-        File file = new File(directory, project.id().toString() + ".json");
+        Set<UUID> saved = new HashSet<>();
+        for (YieldProject project : batch) {
+            if (writeJson(project, jsonFile(directory, project.id()))) saved.add(project.id());
+        }
+        // Drop the binary copies of projects that were switched back to JSON
+        List<UUID> stale = saved.stream()
+                .filter(id -> BinaryProjectStore.projectFile(directory, id).exists())
+                .toList();
+        if (!stale.isEmpty()) binaryStore.deleteAll(stale, directory);
+        return saved;
+    }
 
+    private boolean writeJson(YieldProject project, File file) {
         return YieldProject.CODEC.encodeStart(JsonOps.INSTANCE, project)
                 .resultOrPartial(err -> Yield.LOGGER.error("Serialization error for project {}: {}", project.name(), err))
                 .map(json -> {
-                    try (FileWriter writer = new FileWriter(file)) {
-                        GSON.toJson(json, writer);
+                    try {
+                        AtomicFiles.write(file, out -> {
+                            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                            GSON.toJson(json, writer);
+                            writer.flush();
+                        });
                         return true;
                     } catch (IOException e) {
                         Yield.LOGGER.error("Could not save project: " + project.name(), e);
@@ -95,9 +149,19 @@ public class ProjectRepository {
                 }).orElse(false);
     }
 
-    public void deleteProject(YieldProject project) {
-        File dir = getStorageDirectory();
-        File file = new File(dir, project.id().toString() + ".json");
+    /**
+     * Deletes several projects from the specified directory, in either format.
+     */
+    public void deleteProjects(Collection<UUID> ids, File directory) {
+        ids.forEach(id -> deleteFile(jsonFile(directory, id)));
+        binaryStore.deleteAll(ids, directory);
+    }
+
+    private static File jsonFile(File dir, UUID id) {
+        return new File(dir, id.toString() + JSON_EXTENSION);
+    }
+
+    private static void deleteFile(File file) {
         if (file.exists()) {
             try {
                 Files.delete(file.toPath());
@@ -0,0 +1,247 @@
+package com.kjmaster.yield.manager;
+
+import com.kjmaster.yield.Yield;
+import com.kjmaster.yield.project.YieldProject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind queue for project persistence.
+ * <p>
+ * Pending operations are keyed by project ID: repeated edits of one project coalesce into a single write of its
+ * latest state, and edits of different projects never cancel each other. A flush runs a short delay after the
+ * first queued edit and writes every pending project in one batch per storage directory.
+ * <p>
+ * Flushes are serialized, so a newer state of a project is never overwritten by an older one. Within a flush,
+ * large batches are split across a small I/O pool.
+ * <p>
+ * Every queued save gets a per-project edit generation; a successful write records it as persisted. Projects whose
+ * edit generation is not ahead of their persisted one have nothing to write (see {@link #hasUnsavedChanges}).
+ */
+public class ProjectWriteQueue {
+
+    private final ProjectRepository repository;
+    private final long delayMillis;
+    private final Consumer<Boolean> resultListener;
+
+    // Batches at least this large are written in parallel
+    private static final int PARALLEL_THRESHOLD = 8;
+    private static final int IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    private final ExecutorService ioPool = Executors.newFixedThreadPool(IO_THREADS, r -> {
+        Thread t = new Thread(r, "Yield-IO-Flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "Yield-Writer");
+        t.setDaemon(false);
+        return t;
+    });
+
+    // Guarded by this
+    private final Map<UUID, PendingOperation> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private final Map<UUID, Long> editGenerations = new HashMap<>();
+
+    // Written by flushing threads
+    private final Map<UUID, Long> persistedGenerations = new ConcurrentHashMap<>();
+
+    // Held for a whole drain-and-write pass
+    private final Object flushLock = new Object();
+
+    /**
+     * @param delayMillis    How long edits are collected before they are written.
+     * @param resultListener Receives whether every write of a flush succeeded. Called on the flushing thread.
+     */
+    public ProjectWriteQueue(ProjectRepository repository, long delayMillis, Consumer<Boolean> resultListener) {
+        this.repository = repository;
+        this.delayMillis = delayMillis;
+        this.resultListener = resultListener;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::onShutdown));
+    }
+
+    /**
+     * Queues the latest state of a project, replacing any state of it that is still pending.
+     *
+     * @param directory The storage directory captured when the edit was made, so a world switch
+     *                  before the flush doesn't redirect the write.
+     */
+    public synchronized void enqueueSave(YieldProject project, File directory) {
+        long generation = editGenerations.merge(project.id(), 1L, Long::sum);
+        pending.put(project.id(), new PendingOperation(project, directory, false, generation));
+        scheduleFlush();
+    }
+
+    /**
+     * @return true if the project was queued for saving since its last successful write.
+     */
+    public synchronized boolean hasUnsavedChanges(UUID projectId) {
+        long edited = editGenerations.getOrDefault(projectId, 0L);
+        return edited > persistedGenerations.getOrDefault(projectId, 0L);
+    }
+
+    /**
+     * Queues the deletion of a project, discarding any pending save of it.
+     */
+    public synchronized void enqueueDelete(YieldProject project, File directory) {
+        editGenerations.remove(project.id());
+        persistedGenerations.remove(project.id());
+        pending.put(project.id(), new PendingOperation(project, directory, true, 0));
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (scheduledFlush == null || scheduledFlush.isDone()) {
+            scheduledFlush = scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes everything pending on the calling thread, waiting for a flush that is already running.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingOperation> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) return;
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            resultListener.accept(write(batch));
+        }
+    }
+
+    /**
+     * Removes temp files left behind by a crash mid-write, see {@link AtomicFiles#deleteLeftovers}.
+     * Runs under the flush lock, so it never deletes the temp file of a write that is still in progress.
+     */
+    public void deleteLeftovers(File directory) {
+        synchronized (flushLock) {
+            AtomicFiles.deleteLeftovers(directory);
+        }
+    }
+
+    /**
+     * @return true if every operation succeeded.
+     */
+    private boolean write(List<PendingOperation> batch) {
+        // 1. Group by directory: batched passes (and index writes) per directory
+        Map<File, List<PendingOperation>> saves = new LinkedHashMap<>();
+        Map<File, List<UUID>> deletes = new LinkedHashMap<>();
+        for (PendingOperation operation : batch) {
+            if (operation.delete()) {
+                deletes.computeIfAbsent(operation.directory(), d -> new ArrayList<>()).add(operation.project().id());
+            } else {
+                saves.computeIfAbsent(operation.directory(), d -> new ArrayList<>()).add(operation);
+            }
+        }
+
+        // 2. Saves, split into one chunk per I/O thread when the batch is large
+        List<CompletableFuture<Boolean>> chunks = new ArrayList<>();
+        for (Map.Entry<File, List<PendingOperation>> entry : saves.entrySet()) {
+            List<PendingOperation> operations = entry.getValue();
+            if (operations.size() < PARALLEL_THRESHOLD) {
+                chunks.add(CompletableFuture.completedFuture(writeChunk(operations, entry.getKey())));
+                continue;
+            }
+
+            int chunkSize = (operations.size() + IO_THREADS - 1) / IO_THREADS;
+            for (int from = 0; from < operations.size(); from += chunkSize) {
+                List<PendingOperation> chunk = operations.subList(from, Math.min(operations.size(), from + chunkSize));
+                chunks.add(CompletableFuture.supplyAsync(() -> writeChunk(chunk, entry.getKey()), ioPool));
+            }
+        }
+
+        boolean success = true;
+        for (CompletableFuture<Boolean> chunk : chunks) {
+            try {
+                success &= chunk.join();
+            } catch (CompletionException e) {
+                Yield.LOGGER.error("Project save failed", e.getCause());
+                success = false;
+            }
+        }
+
+        // 3. Deletes
+        deletes.forEach((directory, ids) -> repository.deleteProjects(ids, directory));
+        return success;
+    }
+
+    /**
+     * Saves one chunk and records the generations that reached the disk.
+     *
+     * @return true if every project of the chunk was written.
+     */
+    private boolean writeChunk(List<PendingOperation> operations, File directory) {
+        List<YieldProject> projects = operations.stream().map(PendingOperation::project).toList();
+        Set<UUID> saved = repository.saveProjects(projects, directory);
+
+        boolean success = true;
+        for (PendingOperation operation : operations) {
+            if (saved.contains(operation.project().id())) {
+                persistedGenerations.merge(operation.project().id(), operation.generation(), Math::max);
+            } else {
+                success = false;
+                requeue(operation);
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Keeps a failed write for the next flush, unless a newer operation replaced it meanwhile.
+     * No flush is scheduled for it, so a persistent failure doesn't turn into a retry loop.
+     */
+    private synchronized void requeue(PendingOperation operation) {
+        pending.putIfAbsent(operation.project().id(), operation);
+    }
+
+    private void onShutdown() {
+        boolean hasPending;
+        synchronized (this) {
+            hasPending = !pending.isEmpty();
+        }
+        if (hasPending) {
+            Yield.LOGGER.info("Yield is shutting down, forcing pending saves...");
+        }
+
+        try {
+            flush();
+        } catch (Exception e) {
+            Yield.LOGGER.error("Failed to execute pending saves on shutdown", e);
+        }
+
+        scheduler.shutdown();
+        ioPool.shutdown();
+        try {
+            if (!scheduler.awaitTermination(2, TimeUnit.SECONDS)) {
+                Yield.LOGGER.warn("Yield writer did not terminate in time, forcing shutdown.");
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingOperation(YieldProject project, File directory, boolean delete, long generation) {
+    }
+}
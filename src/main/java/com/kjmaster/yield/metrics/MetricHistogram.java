@@ -0,0 +1,121 @@
+package com.kjmaster.yield.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram with power-of-two buckets.
+ * <p>
+ * Recording is a handful of atomic adds, so it is safe from any thread (client, worker, render) without
+ * contention on a shared lock. Percentiles are approximate: they report the upper bound of the bucket
+ * the percentile falls in, which is within a factor of two of the true value.
+ */
+public final class MetricHistogram {
+
+    // Bucket b holds values in [2^(b-1), 2^b), bucket 0 holds zero
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final Unit unit;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public MetricHistogram(String name, Unit unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value)));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a value of {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile In {@code (0, 1]}, e.g. 0.99.
+     * @return The upper bound of the bucket holding the percentile, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] = buckets.get(b);
+            total += counts[b];
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                long upper = b == 0 ? 0 : b >= 63 ? Long.MAX_VALUE : (1L << b) - 1;
+                // The max is exact, so never report past it
+                return Math.min(upper, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets.set(b, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * @return One line summary, e.g. {@code "matchTime: n=120 mean=85.2us p50=127us p99=511us max=430us"}.
+     */
+    public String format() {
+        return String.format("%s: n=%d mean=%s p50=%s p99=%s max=%s", name, getCount(),
+                unit.format(getMean()), unit.format(getPercentile(0.5)), unit.format(getPercentile(0.99)), unit.format(getMax()));
+    }
+
+    public enum Unit {
+        NANOS,
+        COUNT;
+
+        String format(double value) {
+            return this == NANOS
+                    ? String.format("%.1fus", value / 1000.0)
+                    : String.format("%.0f", value);
+        }
+    }
+}
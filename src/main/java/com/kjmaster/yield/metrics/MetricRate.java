@@ -0,0 +1,71 @@
+package com.kjmaster.yield.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free event counter over a sliding one-minute window, with one bucket per second.
+ * <p>
+ * A bucket is recycled by the first event of a new second. Two threads recycling the same bucket at once can
+ * lose a count, which is acceptable for diagnostics and avoids a lock on the hot path.
+ */
+public final class MetricRate {
+
+    private static final int SECONDS = 60;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(SECONDS);
+    private final AtomicLongArray stamps = new AtomicLongArray(SECONDS);
+    private final LongAdder total = new LongAdder();
+
+    public MetricRate(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        long second = currentSecond();
+        int bucket = (int) Math.floorMod(second, SECONDS);
+        long stamp = stamps.get(bucket);
+        if (stamp != second && stamps.compareAndSet(bucket, stamp, second)) {
+            counts.set(bucket, 0);
+        }
+        counts.incrementAndGet(bucket);
+        total.increment();
+    }
+
+    /**
+     * @return Events in the last 60 seconds.
+     */
+    public long getPerMinute() {
+        long now = currentSecond();
+        long sum = 0;
+        for (int b = 0; b < SECONDS; b++) {
+            if (now - stamps.get(b) < SECONDS) sum += counts.get(b);
+        }
+        return sum;
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void reset() {
+        for (int b = 0; b < SECONDS; b++) {
+            counts.set(b, 0);
+            stamps.set(b, 0);
+        }
+        total.reset();
+    }
+
+    public String format() {
+        return String.format("%s: %d/min (total %d)", name, getPerMinute(), getTotal());
+    }
+
+    private static long currentSecond() {
+        return System.nanoTime() / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,118 @@
+package com.kjmaster.yield.metrics;
+
+import com.kjmaster.yield.Config;
+import net.neoforged.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hot-path instrumentation of the tracker and overlay.
+ * <p>
+ * Metrics are global because the instrumented code (tracker worker, render layer, monitor strategies) spans
+ * several threads and has no shared owner. Every metric is lock-free; call sites check {@link #isEnabled()}
+ * before reading the clock, so disabled metrics cost a single config lookup.
+ */
+public final class YieldMetrics {
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // Full Scans
+    public static final MetricHistogram SNAPSHOT_TIME = new MetricHistogram("snapshotTime", MetricHistogram.Unit.NANOS);
+    public static final MetricHistogram SNAPSHOT_STACKS = new MetricHistogram("snapshotStacks", MetricHistogram.Unit.COUNT);
+    // Estimated stacks x goals, which decides between inline and async matching
+    public static final MetricHistogram SCAN_WORK = new MetricHistogram("scanWork", MetricHistogram.Unit.COUNT);
+    public static final MetricHistogram QUEUE_WAIT = new MetricHistogram("queueWait", MetricHistogram.Unit.NANOS);
+    public static final MetricHistogram MATCH_TIME = new MetricHistogram("matchTime", MetricHistogram.Unit.NANOS);
+    public static final MetricHistogram APPLY_TIME = new MetricHistogram("applyTime", MetricHistogram.Unit.NANOS);
+
+    // Incremental Scans
+    public static final MetricHistogram INCREMENTAL_TIME = new MetricHistogram("incrementalTime", MetricHistogram.Unit.NANOS);
+
+    // Change Detection & Rendering
+    public static final MetricHistogram MONITOR_POLL_TIME = new MetricHistogram("monitorPollTime", MetricHistogram.Unit.NANOS);
+    public static final MetricHistogram OVERLAY_RENDER_TIME = new MetricHistogram("overlayRenderTime", MetricHistogram.Unit.NANOS);
+
+    public static final MetricRate FULL_SCANS = new MetricRate("fullScans");
+    public static final MetricRate INCREMENTAL_SCANS = new MetricRate("incrementalScans");
+    public static final MetricRate INLINE_SCANS = new MetricRate("inlineScans");
+    public static final MetricRate ASYNC_SCANS = new MetricRate("asyncScans");
+
+    private static final List<MetricHistogram> HISTOGRAMS = List.of(
+            SNAPSHOT_TIME, SNAPSHOT_STACKS, SCAN_WORK, QUEUE_WAIT, MATCH_TIME, APPLY_TIME,
+            INCREMENTAL_TIME, MONITOR_POLL_TIME, OVERLAY_RENDER_TIME
+    );
+    private static final List<MetricRate> RATES = List.of(FULL_SCANS, INCREMENTAL_SCANS, INLINE_SCANS, ASYNC_SCANS);
+
+    private YieldMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return Config.METRICS_ENABLED.get();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} if metrics are enabled, otherwise 0 (which the recorders ignore).
+     */
+    public static long start() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since a {@link #start()} into the histogram, if metrics were enabled at the start.
+     */
+    public static void stop(MetricHistogram histogram, long startNanos) {
+        if (startNanos != 0) histogram.recordSince(startNanos);
+    }
+
+    /**
+     * @return One line per metric, rates first.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>(RATES.size() + HISTOGRAMS.size());
+        for (MetricRate rate : RATES) {
+            lines.add(rate.format());
+        }
+        for (MetricHistogram histogram : HISTOGRAMS) {
+            lines.add(histogram.format());
+        }
+        return lines;
+    }
+
+    public static void reset() {
+        RATES.forEach(MetricRate::reset);
+        HISTOGRAMS.forEach(MetricHistogram::reset);
+    }
+
+    /**
+     * Writes the current report, with the config values it was measured under, to a timestamped file.
+     *
+     * @return The written file.
+     */
+    public static Path dump() throws IOException {
+        Path dir = FMLPaths.GAMEDIR.get().resolve("yield_data").resolve("metrics");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("metrics-" + LocalDateTime.now().format(FILE_STAMP) + ".txt");
+
+        List<String> lines = new ArrayList<>();
+        lines.add("# Yield metrics, " + LocalDateTime.now());
+        lines.add("# incrementalScan=" + Config.INCREMENTAL_SCAN.get()
+                + " fullRescanInterval=" + Config.FULL_RESCAN_INTERVAL.get()
+                + " inlineMatchThreshold=" + Config.INLINE_MATCH_THRESHOLD.get()
+                + " eventDrivenDirty=" + Config.EVENT_DRIVEN_DIRTY.get()
+                + " fallbackPollInterval=" + Config.FALLBACK_POLL_INTERVAL.get());
+        lines.add("# nestedScanDepth=" + Config.NESTED_SCAN_DEPTH.get()
+                + " nestedScanMaxSlots=" + Config.NESTED_SCAN_MAX_SLOTS.get()
+                + " nestedScanTimeBudget=" + Config.NESTED_SCAN_TIME_BUDGET.get()
+                + " scanSlotsPerTick=" + Config.SCAN_SLOTS_PER_TICK.get()
+                + " scanTickBudget=" + Config.SCAN_TICK_BUDGET.get());
+        lines.addAll(report());
+        Files.write(file, lines);
+        return file;
+    }
+}
@@ -0,0 +1,38 @@
+package com.kjmaster.yield.project;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.util.StringRepresentable;
+
+/**
+ * How a project's items/hour rates are estimated.
+ */
+public enum RateMode implements StringRepresentable {
+    // Sum of gains over the last Config.RATE_WINDOW seconds
+    WINDOW("window", "Window"),
+    // Exponentially weighted moving average, steadier on bursty farms
+    EWMA("ewma", "Smoothed");
+
+    public static final Codec<RateMode> CODEC = StringRepresentable.fromEnum(RateMode::values);
+
+    private final String serializedName;
+    private final String displayName;
+
+    RateMode(String serializedName, String displayName) {
+        this.serializedName = serializedName;
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String getSerializedName() {
+        return serializedName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public RateMode next() {
+        RateMode[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
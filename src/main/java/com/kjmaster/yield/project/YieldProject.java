@@ -11,27 +11,42 @@ public record YieldProject(
         String name,
         UUID id,
         List<ProjectGoal> goals,
-        boolean trackXp
+        boolean trackXp,
+        RateMode rateMode
 ) {
     public static final Codec<YieldProject> CODEC = RecordCodecBuilder.create(instance -> instance.group(
             Codec.STRING.fieldOf("name").forGetter(YieldProject::name),
             Codec.STRING.xmap(UUID::fromString, UUID::toString).fieldOf("id").forGetter(YieldProject::id),
             ProjectGoal.CODEC.listOf().fieldOf("goals").forGetter(YieldProject::goals),
-            Codec.BOOL.optionalFieldOf("track_xp", false).forGetter(YieldProject::trackXp)
+            Codec.BOOL.optionalFieldOf("track_xp", false).forGetter(YieldProject::trackXp),
+            RateMode.CODEC.optionalFieldOf("rate_mode", RateMode.WINDOW).forGetter(YieldProject::rateMode)
     ).apply(instance, YieldProject::new));
 
+    // Compatibility Constructor for code that hasn't updated to the rate mode field yet
+    public YieldProject(String name, UUID id, List<ProjectGoal> goals, boolean trackXp) {
+        this(name, id, goals, trackXp, RateMode.WINDOW);
+    }
+
     // New Project Constructor
     public YieldProject(String name) {
-        this(name, UUID.randomUUID(), Collections.emptyList(), false);
+        this(name, UUID.randomUUID(), Collections.emptyList(), false, RateMode.WINDOW);
     }
 
     // --- Immutable Modifiers (Pure Copy) ---
 
     public YieldProject withName(String newName) {
-        return new YieldProject(newName, id, goals, trackXp);
+        return new YieldProject(newName, id, goals, trackXp, rateMode);
+    }
+
+    public YieldProject withGoals(List<ProjectGoal> newGoals) {
+        return new YieldProject(name, id, newGoals, trackXp, rateMode);
     }
 
     public YieldProject withTrackXp(boolean newTrackXp) {
-        return new YieldProject(name, id, goals, newTrackXp);
+        return new YieldProject(name, id, goals, newTrackXp, rateMode);
+    }
+
+    public YieldProject withRateMode(RateMode newRateMode) {
+        return new YieldProject(name, id, goals, trackXp, newRateMode);
     }
-}
\ No newline at end of file
+}
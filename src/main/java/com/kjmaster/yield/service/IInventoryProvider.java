@@ -2,16 +2,47 @@ package com.kjmaster.yield.service;
 
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
 
-import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 public interface IInventoryProvider {
     /**
-     * Collects all items from the provider into the consumer.
-     * Implementations MUST return distinct copies (ItemStack.copy()) to ensure thread safety.
+     * @return A stable identifier, used to scope dirty tracking to this provider.
+     */
+    String getId();
+
+    /**
+     * Random access to the top-level slots in a stable order, so a scan can stop and resume on a later tick.
+     * Resolving the handler may allocate (capability lookups build wrappers), so callers resolve it once per pass
+     * and index into it. Stacks are live references and MUST NOT be modified or retained.
+     */
+    IItemHandler getSlots(Player player);
+
+    /**
+     * Visits every top-level slot of the provider, in the order of {@link #getSlots}.
+     * Stacks are live references and MUST NOT be modified or retained.
+     *
+     * @param player  The player entity.
+     * @param visitor Consumer receiving each stack and its slot index.
+     */
+    default void forEachSlot(Player player, ObjIntConsumer<ItemStack> visitor) {
+        IItemHandler slots = getSlots(player);
+        for (int i = 0; i < slots.getSlots(); i++) {
+            visitor.accept(slots.getStackInSlot(i), i);
+        }
+    }
+
+    /**
+     * Visits a top-level stack followed by any stacks nested inside it (Backpacks, etc.).
+     * Stacks arrive in captured form (see {@link StackVisitor}), so they are safe to hand to another thread.
      *
-     * @param player   The player entity.
-     * @param acceptor Consumer to accept copied ItemStacks.
+     * @param stack   The top-level stack.
+     * @param walker  The scan's nested container walker, which bounds and memoizes the recursion.
+     * @param visitor Visitor receiving each non-empty stack.
+     * @return false if the walker's budget cut a nested container short, see {@link NestedContainerWalker#walk}.
      */
-    void collect(Player player, Consumer<ItemStack> acceptor);
-}
\ No newline at end of file
+    default boolean visitContents(ItemStack stack, NestedContainerWalker walker, StackVisitor visitor) {
+        return walker.walk(stack, visitor);
+    }
+}
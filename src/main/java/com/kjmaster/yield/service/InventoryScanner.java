@@ -1,16 +1,23 @@
 package com.kjmaster.yield.service;
 
 import com.kjmaster.yield.compat.curios.CuriosInventoryProvider;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.fml.ModList;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class InventoryScanner {
 
+    /**
+     * Stored instead of a slot's fingerprint when its nested contents were cut short by the walker budget,
+     * so the next incremental pass never treats the slot as up to date.
+     */
+    public static final long INCOMPLETE_FINGERPRINT = Long.MIN_VALUE;
+
     private final List<IInventoryProvider> providers = new ArrayList<>();
+    private final NestedContainerWalker walker = new NestedContainerWalker();
 
     public InventoryScanner() {
         providers.add(new VanillaInventoryProvider());
@@ -19,18 +26,43 @@ public class InventoryScanner {
         }
     }
 
+    public List<IInventoryProvider> getProviders() {
+        return Collections.unmodifiableList(providers);
+    }
+
+    public NestedContainerWalker getWalker() {
+        return walker;
+    }
+
     /**
-     * Creates a thread-safe snapshot of the player's inventory.
-     * This method MUST be called on the Main Thread.
+     * Resets the nested container budget. MUST be called before each full or incremental scan pass.
+     *
+     * @param consistencyCheck Re-walk nested containers even if their memoized hash is unchanged.
      */
-    public List<ItemStack> createSnapshot(Player player) {
-        List<ItemStack> snapshot = new ArrayList<>();
-        // Pre-size optimization could be done if we knew slot counts, but ArrayList resize is fast enough
+    public void beginScan(boolean consistencyCheck) {
+        walker.beginScan(consistencyCheck);
+    }
 
-        for (IInventoryProvider provider : providers) {
-            provider.collect(player, snapshot::add);
-        }
+    /**
+     * Starts a snapshot walk that can be spread across ticks, see {@link ResumableSnapshot}.
+     *
+     * @param scopes           Bit {@code i} selects provider {@code i} of {@link #getProviders()}.
+     * @param consistencyCheck Re-walk nested containers even if their memoized hash is unchanged.
+     * @param generation       The inventory generation the walk starts from.
+     */
+    public ResumableSnapshot beginSnapshot(int scopes, boolean consistencyCheck, long generation) {
+        return new ResumableSnapshot(this, scopes, consistencyCheck, generation);
+    }
 
-        return snapshot;
+    /**
+     * Computes a cheap signature of a slot based on Item, Count, and Components.
+     * Used to detect which slots changed between scans.
+     */
+    public static long fingerprint(ItemStack stack) {
+        if (stack.isEmpty()) return 0;
+        long hash = System.identityHashCode(stack.getItem());
+        hash = 31 * hash + stack.getCount();
+        hash = 31 * hash + (!stack.isComponentsPatchEmpty() ? stack.getComponents().hashCode() : 0);
+        return hash;
     }
-}
\ No newline at end of file
+}
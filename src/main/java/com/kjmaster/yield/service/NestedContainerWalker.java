@@ -0,0 +1,237 @@
+package com.kjmaster.yield.service;
+
+import com.kjmaster.yield.Config;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Shared recursion logic for stacks that expose an item handler of their own (Backpacks, etc.).
+ * <p>
+ * The flattened contents of every nested container are memoized by container stack identity, together with a
+ * hash of the container's slots. An unchanged container replays its cached contents instead of being walked again.
+ * Depth, slots visited per scan and time per scan are bounded by {@link Config}; once a scan's budget is spent,
+ * remaining containers fall back to their last cached contents (or whatever was read before the cut), and the walk
+ * reports itself incomplete so the caller can retry the slot with a fresh budget instead of trusting the total.
+ * A container that was cut short keeps its progress: the next scan resumes it from the slot it stopped at, as long as
+ * its slots are unchanged, so containers larger than one budget still complete over a few scans.
+ * <p>
+ * A cache hit replays deeper levels as well, so a change two levels down that leaves the outer container's slots
+ * untouched is picked up by the periodic consistency rescan, which bypasses the cache.
+ * <p>
+ * Main Thread only: the walker reads live stacks and capabilities.
+ */
+public class NestedContainerWalker {
+
+    private static final Contents EMPTY = new Contents(new Item[0], new int[0], new DataComponentPatch[0]);
+
+    // Keyed by container stack identity (ItemStack doesn't override equals); entries die with their stacks
+    private final Map<ItemStack, CachedContainer> cache = new WeakHashMap<>();
+    // Containers cut short by the budget, resumed by a later scan
+    private final Map<ItemStack, PartialContainer> partials = new WeakHashMap<>();
+
+    // Per-Scan Budget
+    private int maxDepth = 1;
+    private int slotsVisited = 0;
+    private int maxSlots = Integer.MAX_VALUE;
+    private long deadlineNanos = Long.MAX_VALUE;
+    private boolean bypassCache = false;
+    // Containers cut short by the budget during this scan
+    private int truncations = 0;
+
+    /**
+     * Resets the per-scan budget. Called once before each scan pass.
+     *
+     * @param bypassCache Walk every container even if its hash is unchanged (periodic consistency rescan).
+     */
+    public void beginScan(boolean bypassCache) {
+        this.maxDepth = Config.NESTED_SCAN_DEPTH.get();
+        this.slotsVisited = 0;
+        this.maxSlots = Config.NESTED_SCAN_MAX_SLOTS.get();
+        this.deadlineNanos = System.nanoTime() + Config.NESTED_SCAN_TIME_BUDGET.get() * 1000L;
+        this.bypassCache = bypassCache;
+    }
+
+    /**
+     * Visits the stack itself, then the contents of any nested containers up to the configured depth.
+     *
+     * @return false if the budget ran out inside a nested container, so the visited contents may be stale or partial.
+     */
+    public boolean walk(ItemStack stack, StackVisitor visitor) {
+        if (stack.isEmpty()) return true;
+        visitor.accept(stack);
+
+        if (maxDepth < 1) return true;
+        IItemHandler handler = stack.getCapability(Capabilities.ItemHandler.ITEM, null);
+        if (handler != null) {
+            int truncationsBefore = truncations;
+            // Visited set is only allocated once a nested container is actually found
+            Set<Object> visited = new HashSet<>();
+            visited.add(handler);
+            containerContents(stack, handler, 1, visited).replay(visitor);
+            return truncations == truncationsBefore;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the walker would descend into the stack, so its contents may change without its fingerprint.
+     */
+    public boolean hasNestedContents(ItemStack stack) {
+        return maxDepth >= 1 && !stack.isEmpty() && stack.getCapability(Capabilities.ItemHandler.ITEM, null) != null;
+    }
+
+    private boolean isBudgetSpent() {
+        return slotsVisited >= maxSlots || System.nanoTime() >= deadlineNanos;
+    }
+
+    /**
+     * Returns the flattened contents of a container at the given depth, from the cache if its slots are unchanged.
+     */
+    private Contents containerContents(ItemStack container, IItemHandler handler, int depth, Set<Object> visited) {
+        CachedContainer cached = cache.get(container);
+        if (isBudgetSpent()) {
+            truncations++;
+            return cached != null ? cached.contents() : EMPTY;
+        }
+
+        int slots = handler.getSlots();
+        long hash = hashSlots(container, handler);
+        if (!bypassCache && cached != null && cached.hash() == hash && cached.depth() == depth && cached.maxDepth() == maxDepth) {
+            return cached.contents();
+        }
+
+        // Resume the walk an earlier scan cut short, unless the container changed since
+        // (a consistency rescan only resumes its own walks, which didn't replay cached levels)
+        PartialContainer partial = partials.remove(container);
+        boolean resume = partial != null && partial.hash() == hash && partial.depth() == depth
+                && partial.maxDepth() == maxDepth && (partial.bypassCache() || !bypassCache);
+        ContentsBuilder builder = resume ? partial.builder() : new ContentsBuilder();
+        int first = resume ? partial.nextSlot() : 0;
+
+        for (int i = first; i < slots; i++) {
+            ItemStack stack = handler.getStackInSlot(i);
+            slotsVisited++;
+            if (!stack.isEmpty()) {
+                int mark = builder.size();
+                builder.accept(stack);
+
+                if (depth < maxDepth) {
+                    IItemHandler inner = stack.getCapability(Capabilities.ItemHandler.ITEM, null);
+                    // If we've already seen this exact handler instance, skip it to prevent cycles
+                    if (inner != null && visited.add(inner)) {
+                        int truncationsBefore = truncations;
+                        Contents innerContents = containerContents(stack, inner, depth + 1, visited);
+                        if (truncations != truncationsBefore) {
+                            // The inner container keeps its own progress; this slot is redone once it completes
+                            builder.truncate(mark);
+                            return suspend(container, cached, new PartialContainer(hash, depth, maxDepth, bypassCache, builder, i));
+                        }
+                        innerContents.replay(builder);
+                    }
+                }
+            }
+
+            if (isBudgetSpent() && i < slots - 1) {
+                truncations++;
+                return suspend(container, cached, new PartialContainer(hash, depth, maxDepth, bypassCache, builder, i + 1));
+            }
+        }
+
+        Contents contents = builder.build();
+        cache.put(container, new CachedContainer(hash, depth, maxDepth, contents));
+        return contents;
+    }
+
+    /**
+     * Keeps the progress of a container cut short by the budget. A cut container is never cached; until it
+     * completes, it reports its last complete contents, or what has been read so far.
+     */
+    private Contents suspend(ItemStack container, @Nullable CachedContainer cached, PartialContainer partial) {
+        partials.put(container, partial);
+        return cached != null ? cached.contents() : partial.builder().build();
+    }
+
+    /**
+     * Signature of the container stack and its direct slots.
+     * Component-backed containers change the container's own fingerprint; handler-backed ones change the slots.
+     */
+    private static long hashSlots(ItemStack container, IItemHandler handler) {
+        long hash = InventoryScanner.fingerprint(container);
+        for (int i = 0; i < handler.getSlots(); i++) {
+            hash = 31 * hash + InventoryScanner.fingerprint(handler.getStackInSlot(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Forgets every memoized and partially walked container, e.g. when the session stops.
+     */
+    public void clearCache() {
+        cache.clear();
+        partials.clear();
+    }
+
+    private record CachedContainer(long hash, int depth, int maxDepth, Contents contents) {
+    }
+
+    /**
+     * A container walk cut short by the budget, resumed from {@code nextSlot}.
+     */
+    private record PartialContainer(long hash, int depth, int maxDepth, boolean bypassCache,
+                                    ContentsBuilder builder, int nextSlot) {
+    }
+
+    /**
+     * Immutable flattened container contents.
+     */
+    private record Contents(Item[] items, int[] counts, DataComponentPatch[] patches) {
+        void replay(StackVisitor visitor) {
+            for (int i = 0; i < items.length; i++) {
+                visitor.accept(items[i], counts[i], patches[i]);
+            }
+        }
+    }
+
+    private static class ContentsBuilder implements StackVisitor {
+        private final List<Item> items = new ArrayList<>();
+        private final IntArrayList counts = new IntArrayList();
+        private final List<DataComponentPatch> patches = new ArrayList<>();
+
+        @Override
+        public void accept(Item item, int count, @Nullable DataComponentPatch patch) {
+            items.add(item);
+            counts.add(count);
+            patches.add(patch);
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        /**
+         * Drops every stack accepted after the first {@code size}.
+         */
+        void truncate(int size) {
+            items.subList(size, items.size()).clear();
+            counts.size(size);
+            patches.subList(size, patches.size()).clear();
+        }
+
+        Contents build() {
+            if (items.isEmpty()) return EMPTY;
+            return new Contents(items.toArray(new Item[0]), counts.toIntArray(), patches.toArray(new DataComponentPatch[0]));
+        }
+    }
+}
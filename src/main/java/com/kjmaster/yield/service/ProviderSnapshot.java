@@ -0,0 +1,88 @@
+package com.kjmaster.yield.service;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thread-safe capture of one provider's inventory, grouped by top-level slot.
+ * <p>
+ * Stacks are not copied. Each entry is the stack's Item, count and component patch, all of which are immutable,
+ * stored as parallel arrays. The entries belonging to slot {@code i} (the slot stack followed by any nested contents)
+ * occupy {@code [slotOffsets[i] .. slotOffsets[i + 1])}.
+ *
+ * @param fingerprints Per-slot fingerprints, see {@link InventoryScanner#fingerprint(ItemStack)}.
+ * @param slotOffsets  Start offset of each slot into the entry arrays, plus a trailing end offset.
+ * @param items        Item of each entry.
+ * @param counts       Count of each entry.
+ * @param patches      Component patch of each entry, or null if the stack has only its default components.
+ */
+public record ProviderSnapshot(long[] fingerprints, int[] slotOffsets, Item[] items, int[] counts,
+                               DataComponentPatch[] patches) {
+
+    public int slotCount() {
+        return fingerprints.length;
+    }
+
+    public int stackCount() {
+        return items.length;
+    }
+
+    /**
+     * Accumulates slots and their stacks. Main Thread only, since it reads live stacks.
+     */
+    public static class Builder implements StackVisitor {
+        private final LongArrayList fingerprints = new LongArrayList();
+        private final IntArrayList offsets = new IntArrayList();
+        private final List<Item> items = new ArrayList<>();
+        private final IntArrayList counts = new IntArrayList();
+        private final List<DataComponentPatch> patches = new ArrayList<>();
+
+        public void beginSlot(long fingerprint) {
+            fingerprints.add(fingerprint);
+            offsets.add(items.size());
+        }
+
+        @Override
+        public void accept(Item item, int count, @Nullable DataComponentPatch patch) {
+            items.add(item);
+            counts.add(count);
+            patches.add(patch);
+        }
+
+        /**
+         * Flags the current slot as incomplete (see {@link InventoryScanner#INCOMPLETE_FINGERPRINT}).
+         */
+        public void markSlotIncomplete() {
+            fingerprints.set(fingerprints.size() - 1, InventoryScanner.INCOMPLETE_FINGERPRINT);
+        }
+
+        /**
+         * Removes the current slot and its stacks, so it can be captured again later.
+         */
+        public void dropSlot() {
+            int start = offsets.removeInt(offsets.size() - 1);
+            fingerprints.removeLong(fingerprints.size() - 1);
+            items.subList(start, items.size()).clear();
+            counts.size(start);
+            patches.subList(start, patches.size()).clear();
+        }
+
+        public ProviderSnapshot build() {
+            offsets.add(items.size()); // Trailing end offset
+            return new ProviderSnapshot(
+                    fingerprints.toLongArray(),
+                    offsets.toIntArray(),
+                    items.toArray(new Item[0]),
+                    counts.toIntArray(),
+                    patches.toArray(new DataComponentPatch[0])
+            );
+        }
+    }
+}
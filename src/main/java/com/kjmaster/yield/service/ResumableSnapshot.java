@@ -0,0 +1,136 @@
+package com.kjmaster.yield.service;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A snapshot walk that can be split across ticks.
+ * <p>
+ * Each call to {@link #advance} captures slots until a slot or time budget runs out, and the walk continues from
+ * the same provider and slot on the next call. The result is only available once every selected provider has been
+ * walked. Since slots captured on different ticks may come from different inventory states, the owner MUST
+ * {@link #restart} the walk whenever the inventory changes before it finishes.
+ * <p>
+ * Main Thread only.
+ */
+public class ResumableSnapshot {
+
+    private final InventoryScanner scanner;
+    private final boolean consistencyCheck;
+
+    private int scopes;
+    private long generation;
+    private int restarts = 0;
+
+    // Cursor
+    private final List<ProviderSnapshot> completed = new ArrayList<>();
+    private ProviderSnapshot.Builder builder;
+    private int slot;
+
+    /**
+     * @param scopes           Bit {@code i} selects provider {@code i} of the scanner.
+     * @param consistencyCheck Re-walk nested containers even if their memoized hash is unchanged.
+     * @param generation       The inventory generation the walk starts from.
+     */
+    ResumableSnapshot(InventoryScanner scanner, int scopes, boolean consistencyCheck, long generation) {
+        this.scanner = scanner;
+        this.scopes = scopes;
+        this.consistencyCheck = consistencyCheck;
+        this.generation = generation;
+    }
+
+    /**
+     * Discards everything captured so far and starts over from the first provider.
+     *
+     * @param scopes     The providers to walk, usually widened by the providers that changed.
+     * @param generation The inventory generation the new walk starts from.
+     */
+    public void restart(int scopes, long generation) {
+        this.scopes = scopes;
+        this.generation = generation;
+        this.restarts++;
+        completed.clear();
+        builder = null;
+        slot = 0;
+    }
+
+    /**
+     * Captures slots until the walk is finished or a budget runs out.
+     *
+     * @param maxSlots      Top-level slots to capture in this call.
+     * @param deadlineNanos {@link System#nanoTime()} after which the call returns.
+     * @return true once every selected provider has been walked.
+     */
+    public boolean advance(Player player, int maxSlots, long deadlineNanos) {
+        List<IInventoryProvider> providers = scanner.getProviders();
+        NestedContainerWalker walker = scanner.getWalker();
+        scanner.beginScan(consistencyCheck);
+
+        int visited = 0;
+        while (completed.size() < providers.size()) {
+            int index = completed.size();
+            if ((scopes & (1 << index)) == 0) {
+                completed.add(null);
+                continue;
+            }
+
+            IInventoryProvider provider = providers.get(index);
+            if (builder == null) builder = new ProviderSnapshot.Builder();
+
+            // Resolved once per call (not per slot), but re-read every call, as handlers may resize between ticks
+            IItemHandler slots = provider.getSlots(player);
+            int slotCount = slots.getSlots();
+            while (slot < slotCount) {
+                // At least one slot per call, so the walk always makes progress
+                if (visited > 0 && (visited >= maxSlots || System.nanoTime() >= deadlineNanos)) return false;
+
+                ItemStack stack = slots.getStackInSlot(slot);
+                builder.beginSlot(InventoryScanner.fingerprint(stack));
+                if (!provider.visitContents(stack, walker, builder)) {
+                    // The nested budget ran out in this slot: retry it next call with a fresh budget. A slot that
+                    // doesn't fit even a fresh budget is kept, flagged so the count is refined incrementally.
+                    if (visited > 0) {
+                        builder.dropSlot();
+                        return false;
+                    }
+                    builder.markSlotIncomplete();
+                }
+                slot++;
+                visited++;
+            }
+
+            completed.add(builder.build());
+            builder = null;
+            slot = 0;
+        }
+        return true;
+    }
+
+    public boolean isFinished() {
+        return completed.size() == scanner.getProviders().size();
+    }
+
+    /**
+     * @return One entry per provider, null for providers outside the scope mask. Only valid once finished.
+     */
+    public List<ProviderSnapshot> getResult() {
+        if (!isFinished()) throw new IllegalStateException("Snapshot walk is not finished");
+        return completed;
+    }
+
+    public int getScopes() {
+        return scopes;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getRestarts() {
+        return restarts;
+    }
+}
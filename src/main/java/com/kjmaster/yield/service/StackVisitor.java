@@ -0,0 +1,29 @@
+package com.kjmaster.yield.service;
+
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives stacks in their captured form: Item, count and component patch.
+ * Lets cached container contents be replayed without holding on to live stacks.
+ */
+@FunctionalInterface
+public interface StackVisitor {
+
+    /**
+     * @param patch The stack's component patch, or null if it has only its default components.
+     */
+    void accept(Item item, int count, @Nullable DataComponentPatch patch);
+
+    /**
+     * Visits a live stack. Empty stacks are skipped.
+     * The patch shares the stack's component storage; the stack switches to copy-on-write,
+     * so later changes to the live stack never reach the captured patch.
+     */
+    default void accept(ItemStack stack) {
+        if (stack.isEmpty()) return;
+        accept(stack.getItem(), stack.getCount(), stack.isComponentsPatchEmpty() ? null : stack.getComponentsPatch());
+    }
+}
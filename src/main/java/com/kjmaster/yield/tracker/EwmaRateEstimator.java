@@ -0,0 +1,73 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.time.TimeSource;
+
+/**
+ * Exponentially weighted moving average of gains.
+ * <p>
+ * Keeps a single decayed gain total instead of a window of buckets. Old gains fade out smoothly rather
+ * than falling off a window edge, so bursty farms produce a steady rate instead of a sawtooth.
+ * The time constant is half the configured window, which gives the same mean sample age as the window mode.
+ */
+public class EwmaRateEstimator implements RateEstimator {
+    private static final double MIN_SAMPLE_DURATION = 10.0;
+    // Below this the decayed total is treated as no recent activity
+    private static final double EPSILON = 0.01;
+
+    private final double timeConstant;
+    private final TimeSource timeSource;
+
+    private double level = 0;
+    private double lastUpdate = 0;
+
+    private boolean started = false;
+    private double startTime = 0;
+
+    public EwmaRateEstimator(int windowSeconds, TimeSource timeSource) {
+        this.timeConstant = Math.max(1.0, windowSeconds / 2.0);
+        this.timeSource = timeSource;
+    }
+
+    @Override
+    public void addGain(int amount) {
+        if (amount <= 0) return;
+        decayTo(timeSource.getTimeSeconds());
+        level += amount;
+    }
+
+    @Override
+    public double getItemsPerHour() {
+        double nowSec = timeSource.getTimeSeconds();
+        decayTo(nowSec);
+        if (level < EPSILON) return 0.0;
+
+        // Early in a session the average hasn't seen a full time constant yet; normalize by the weight it has seen
+        double activeDuration = Math.max(MIN_SAMPLE_DURATION, nowSec - startTime);
+        double weight = timeConstant * (1.0 - Math.exp(-activeDuration / timeConstant));
+
+        return level * (3600.0 / weight);
+    }
+
+    @Override
+    public void clear() {
+        level = 0;
+        lastUpdate = 0;
+        started = false;
+        startTime = 0;
+        timeSource.reset();
+    }
+
+    private void decayTo(double nowSec) {
+        if (!started) {
+            started = true;
+            startTime = nowSec;
+            lastUpdate = nowSec;
+            return;
+        }
+
+        double elapsed = nowSec - lastUpdate;
+        if (elapsed <= 0) return;
+        level *= Math.exp(-elapsed / timeConstant);
+        lastUpdate = nowSec;
+    }
+}
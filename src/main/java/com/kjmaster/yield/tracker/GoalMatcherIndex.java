@@ -0,0 +1,180 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.util.StrictMatcher;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled lookup of a project's goals, bucketed by Item and by Tag.
+ * Each stack only visits the goals that can possibly match it, instead of every goal in the project.
+ * <p>
+ * Goal indices follow the order of the goal list the index was compiled from.
+ * Instances are immutable once built, so they are safe to hand to the async matcher.
+ */
+public class GoalMatcherIndex {
+
+    private final List<ProjectGoal> goals;
+
+    // Compiled Strict Matchers, indexed like goals (null for Fuzzy & Tag goals)
+    private final StrictMatcher[] strictMatchers;
+
+    // Item Goals (Fuzzy & Strict): Item -> Goal Indices
+    private final Map<Item, int[]> itemBuckets;
+
+    // Tag Goals: Goal Indices sharing each distinct Tag, with Item -> Tag bitsets over those tags
+    // (Membership is null if the project has no tag goals)
+    private final int[][] tagBuckets;
+    private final TagMembershipCache tagMembership;
+
+    private GoalMatcherIndex(List<ProjectGoal> goals, StrictMatcher[] strictMatchers, Map<Item, int[]> itemBuckets,
+                             int[][] tagBuckets, TagMembershipCache tagMembership) {
+        this.goals = goals;
+        this.strictMatchers = strictMatchers;
+        this.itemBuckets = itemBuckets;
+        this.tagBuckets = tagBuckets;
+        this.tagMembership = tagMembership;
+    }
+
+    /**
+     * Builds an index for the given goal list.
+     * The list reference is retained so callers can cheaply detect when a rebuild is needed.
+     */
+    public static GoalMatcherIndex compile(List<ProjectGoal> goals) {
+        return compile(goals, null);
+    }
+
+    /**
+     * Builds an index for the given goal list, reusing the strict matchers of any goal instances
+     * that are unchanged since the previous index, and its tag membership cache if the distinct tags
+     * are unchanged and tags have not been reloaded since.
+     */
+    public static GoalMatcherIndex compile(List<ProjectGoal> goals, GoalMatcherIndex previous) {
+        StrictMatcher[] strictMatchers = new StrictMatcher[goals.size()];
+        for (int i = 0; i < goals.size(); i++) {
+            ProjectGoal goal = goals.get(i);
+            if (goal.strict() && goal.targetTag().isEmpty()) {
+                StrictMatcher reused = previous != null ? previous.findStrictMatcher(goal) : null;
+                strictMatchers[i] = reused != null ? reused : StrictMatcher.compile(goal);
+            }
+        }
+
+        Map<Item, List<Integer>> itemGroups = new IdentityHashMap<>();
+        Map<TagKey<Item>, List<Integer>> tagGroups = new LinkedHashMap<>();
+
+        for (int i = 0; i < goals.size(); i++) {
+            ProjectGoal goal = goals.get(i);
+            if (goal.targetTag().isPresent()) {
+                tagGroups.computeIfAbsent(goal.targetTag().get(), k -> new ArrayList<>()).add(i);
+            } else {
+                itemGroups.computeIfAbsent(goal.item(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<Item, int[]> itemBuckets = new IdentityHashMap<>(itemGroups.size());
+        itemGroups.forEach((item, indices) -> itemBuckets.put(item, toArray(indices)));
+
+        List<TagKey<Item>> tags = new ArrayList<>(tagGroups.keySet());
+        int[][] tagBuckets = new int[tags.size()][];
+        for (int t = 0; t < tags.size(); t++) {
+            tagBuckets[t] = toArray(tagGroups.get(tags.get(t)));
+        }
+
+        TagMembershipCache tagMembership = null;
+        if (!tags.isEmpty()) {
+            TagMembershipCache reused = previous != null ? previous.tagMembership : null;
+            tagMembership = reused != null && reused.isCurrent() && reused.isBuiltFor(tags)
+                    ? reused
+                    : TagMembershipCache.build(tags);
+        }
+
+        return new GoalMatcherIndex(goals, strictMatchers, itemBuckets, tagBuckets, tagMembership);
+    }
+
+    private StrictMatcher findStrictMatcher(ProjectGoal goal) {
+        for (StrictMatcher matcher : strictMatchers) {
+            if (matcher != null && matcher.isCompiledFrom(goal)) return matcher;
+        }
+        return null;
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        int[] result = new int[indices.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indices.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if this index was compiled from this exact goal list instance.
+     */
+    public boolean isCompiledFrom(List<ProjectGoal> goalList) {
+        return this.goals == goalList;
+    }
+
+    /**
+     * @return false if tags were reloaded since this index was compiled, meaning tag counts may be wrong.
+     */
+    public boolean isTagCacheCurrent() {
+        return tagMembership == null || tagMembership.isCurrent();
+    }
+
+    public List<ProjectGoal> goals() {
+        return goals;
+    }
+
+    public int size() {
+        return goals.size();
+    }
+
+    /**
+     * Adds a captured stack's count to every goal it matches.
+     *
+     * @param patch  The stack's component patch, or null if it has only its default components.
+     * @param counts Per-goal totals, indexed like {@link #goals()}.
+     */
+    public void accumulate(Item item, int amount, @Nullable DataComponentPatch patch, int[] counts) {
+        // 1. Item Bucket (Strict checks compare patches through the precompiled matcher)
+        int[] bucket = itemBuckets.get(item);
+        if (bucket != null) {
+            for (int index : bucket) {
+                StrictMatcher strictMatcher = strictMatchers[index];
+                if (strictMatcher == null || strictMatcher.matches(item, patch)) {
+                    counts[index] += amount;
+                }
+            }
+        }
+
+        // 2. Tag Buckets
+        accumulateTags(item, amount, counts);
+    }
+
+    /**
+     * One registry ID lookup, then a bit test per distinct tag.
+     */
+    private void accumulateTags(Item item, int amount, int[] counts) {
+        if (tagMembership == null) return;
+        int offset = tagMembership.offsetOf(item);
+        if (offset < 0) return;
+
+        for (int w = 0; w < tagMembership.words(); w++) {
+            long word = tagMembership.word(offset + w);
+            while (word != 0) {
+                int t = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                for (int index : tagBuckets[t]) {
+                    counts[index] += amount;
+                }
+            }
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.kjmaster.yield.tracker;
 
-import com.kjmaster.yield.Config;
 import com.kjmaster.yield.client.GoalToast;
 import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.project.RateMode;
 import com.kjmaster.yield.time.TimeSource;
 import net.minecraft.client.Minecraft;
 
 public class GoalTracker {
     private ProjectGoal goal;
-    private final RateCalculator calculator;
+    private final TimeSource timeSource;
+    private RateMode rateMode;
+    private RateEstimator calculator;
 
     private int currentCount = 0;
     private int startCount = -1;
@@ -18,8 +20,24 @@ public class GoalTracker {
     private boolean hasToastFired = false;
 
     public GoalTracker(ProjectGoal goal, TimeSource timeSource) {
+        this(goal, timeSource, RateMode.WINDOW);
+    }
+
+    public GoalTracker(ProjectGoal goal, TimeSource timeSource, RateMode rateMode) {
         this.goal = goal;
-        this.calculator = new RateCalculator(Config.RATE_WINDOW.get(), timeSource);
+        this.timeSource = timeSource;
+        this.rateMode = rateMode;
+        this.calculator = RateEstimator.create(rateMode, timeSource);
+    }
+
+    /**
+     * Switches the rate estimator. Rate history starts over; counts are kept.
+     */
+    public void setRateMode(RateMode newRateMode) {
+        if (newRateMode == this.rateMode) return;
+        this.rateMode = newRateMode;
+        this.calculator = RateEstimator.create(newRateMode, timeSource);
+        this.cachedRate = 0.0;
     }
 
     public void updateGoalDefinition(ProjectGoal newGoal) {
@@ -1,45 +1,104 @@
 package com.kjmaster.yield.tracker;
 
+import com.kjmaster.yield.Config;
+import com.kjmaster.yield.compat.curios.CuriosInventoryProvider;
 import com.kjmaster.yield.compat.curios.CuriosInventoryWatcher;
+import com.kjmaster.yield.metrics.YieldMetrics;
+import com.kjmaster.yield.service.IInventoryProvider;
+import com.kjmaster.yield.service.InventoryScanner;
+import com.kjmaster.yield.service.VanillaInventoryProvider;
+import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
 import net.neoforged.fml.ModList;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.items.IItemHandler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Tracks inventory state changes to determine when a scan is necessary.
  * Now simplified to act as a coalescing "Tick Gate".
+ * <p>
+ * Dirty state is scoped per {@link IInventoryProvider}: bit {@code i} of the scope mask stands for provider
+ * {@code i} of the scanner, so the engine only rescans the providers that changed.
+ * <p>
+ * Changes are detected from three sources: cheap counters checked every tick, inventory events
+ * (see {@link #markDirtyFromEvent()}), and hashing strategies. In event-driven mode the hashing strategies
+ * only run as a low-frequency fallback for changes no event reports.
  */
 public class InventoryMonitor {
+    // Poll interval of the hashing strategies when event-driven detection is off
+    private static final int LEGACY_POLL_INTERVAL = 10;
 
-    private boolean dirty = true;
-    private final List<Strategy> strategies = new ArrayList<>();
+    private final List<String> providerIds;
+    private final int allScopes;
 
-    public InventoryMonitor() {
-        // 1. Vanilla Strategy
-        strategies.add(new VanillaStrategy());
+    private int dirtyScopes;
+    // Bumped on every reported change, so multi-tick work can tell whether the inventory moved underneath it
+    private long generation = 0;
+    // Set from event handlers, which may run on the integrated server thread
+    private final AtomicInteger eventScopes = new AtomicInteger();
+
+    private final List<Watcher> tickWatchers = new ArrayList<>();
+    private final List<Watcher> pollingWatchers = new ArrayList<>();
+    private long pollTicks = 0;
+
+    /**
+     * @param serverEventsOnly The provider's changes are only reported by server-side events, which a client
+     *                         connected to a dedicated server never receives.
+     */
+    private record Watcher(Strategy strategy, int scope, boolean serverEventsOnly) {
+    }
+
+    public InventoryMonitor(List<IInventoryProvider> providers) {
+        this.providerIds = providers.stream().map(IInventoryProvider::getId).toList();
+        this.allScopes = providers.size() >= 32 ? -1 : (1 << providers.size()) - 1;
+        this.dirtyScopes = allScopes;
+
+        // 1. Vanilla Strategy (Counter compare, cheap enough for every tick)
+        tickWatchers.add(new Watcher(new VanillaStrategy(), scopeOf(VanillaInventoryProvider.ID), false));
 
         // 2. Capability Strategy (Fix for sync gap)
         // Monitors standard NeoForge ItemHandlers that might wrap vanilla or provide extra slots
-        strategies.add(new CapabilityStrategy());
+        pollingWatchers.add(new Watcher(new CapabilityStrategy(), scopeOf(VanillaInventoryProvider.ID), false));
 
-        // 3. Curios Strategy (Conditional)
+        // 3. Curios Strategy (Conditional). CurioChangeEvent only fires on the server side.
         if (ModList.get().isLoaded("curios")) {
-            strategies.add(new CuriosInventoryWatcher());
+            pollingWatchers.add(new Watcher(new CuriosInventoryWatcher(), scopeOf(CuriosInventoryProvider.ID), true));
         }
     }
 
+    /**
+     * @return The scope bit of the provider, or every scope if the provider is unknown.
+     */
+    public int scopeOf(String providerId) {
+        int index = providerIds.indexOf(providerId);
+        return index >= 0 ? 1 << index : allScopes;
+    }
+
+    public int getAllScopes() {
+        return allScopes;
+    }
+
     public void markDirty() {
-        this.dirty = true;
+        raise(allScopes);
     }
 
-    // Legacy support for event handlers (mapped to general dirty)
-    public void markItemDirty(Object item) {
-        markDirty();
+    public void markProviderDirty(String providerId) {
+        raise(scopeOf(providerId));
+    }
+
+    // Legacy support for event handlers: scoped if the argument identifies a provider, otherwise general dirty
+    public void markItemDirty(Object source) {
+        if (source instanceof IInventoryProvider provider) {
+            markProviderDirty(provider.getId());
+        } else if (source instanceof String providerId) {
+            markProviderDirty(providerId);
+        } else {
+            markDirty();
+        }
     }
 
     public void markAllDirty() {
@@ -47,22 +106,97 @@ public class InventoryMonitor {
     }
 
     public boolean isDirty() {
-        return dirty;
+        return dirtyScopes != 0;
+    }
+
+    /**
+     * @return Bit {@code i} is set if provider {@code i} changed since the last scan.
+     */
+    public int getDirtyScopes() {
+        return dirtyScopes;
     }
 
     public void clearDirty() {
-        dirty = false;
+        dirtyScopes = 0;
+    }
+
+    /**
+     * @return A counter that increases whenever a change is reported. Unlike the dirty flags, it is never reset.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    private void raise(int scopes) {
+        if (scopes == 0) return;
+        this.dirtyScopes |= scopes;
+        this.generation++;
+    }
+
+    /**
+     * Requests a scan of every provider on the next tick. Safe to call from any thread.
+     */
+    public void markDirtyFromEvent() {
+        eventScopes.set(allScopes);
+    }
+
+    /**
+     * Requests a scan of one provider on the next tick. Safe to call from any thread.
+     */
+    public void markDirtyFromEvent(String providerId) {
+        eventScopes.accumulateAndGet(scopeOf(providerId), (current, scope) -> current | scope);
     }
 
     public void checkForNativeChanges(Player player) {
-        // Poll all registered strategies
-        for (Strategy strategy : strategies) {
-            if (strategy.isDirty(player)) {
-                this.dirty = true;
+        // 1. Events reported since the last tick
+        raise(eventScopes.getAndSet(0));
+
+        // 2. Cheap strategies, every tick
+        for (Watcher watcher : tickWatchers) {
+            poll(watcher, player);
+        }
+
+        // 3. Hashing strategies, each at its own poll interval
+        pollTicks++;
+        long start = 0;
+        boolean polled = false;
+        for (Watcher watcher : pollingWatchers) {
+            if (pollTicks % getPollInterval(watcher) != 0) continue;
+            if (!polled) {
+                start = YieldMetrics.start();
+                polled = true;
             }
+            poll(watcher, player);
+        }
+        if (polled) YieldMetrics.stop(YieldMetrics.MONITOR_POLL_TIME, start);
+    }
+
+    private void poll(Watcher watcher, Player player) {
+        if (watcher.strategy().isDirty(player)) {
+            raise(watcher.scope());
         }
     }
 
+    private static int getPollInterval(Watcher watcher) {
+        if (!Config.EVENT_DRIVEN_DIRTY.get()) return LEGACY_POLL_INTERVAL;
+        // Without an integrated server, server-side events never reach us: keep polling those providers at the legacy rate
+        if (watcher.serverEventsOnly() && !Minecraft.getInstance().hasSingleplayerServer()) return LEGACY_POLL_INTERVAL;
+        return Config.FALLBACK_POLL_INTERVAL.get();
+    }
+
+    /**
+     * Computes a signature of every slot in the handler based on Item, Count, and Components.
+     * Shared by the polling strategies so they detect swaps, consumption, and strict-mode relevant changes alike.
+     */
+    public static long hashContents(IItemHandler handler) {
+        long hash = 1;
+        for (int i = 0; i < handler.getSlots(); i++) {
+            // Empty slots fingerprint to 0, so they still shift the hash
+            hash = 31 * hash + InventoryScanner.fingerprint(handler.getStackInSlot(i));
+        }
+        return hash;
+    }
+
     public interface Strategy {
         boolean isDirty(Player player);
     }
@@ -88,33 +222,13 @@ public class InventoryMonitor {
      */
     private static class CapabilityStrategy implements Strategy {
         private long lastStateHash = 0;
-        private int tickCounter = 0;
 
         @Override
         public boolean isDirty(Player player) {
-
-            if (tickCounter++ % 10 != 0) {
-                return false;
-            }
-
             IItemHandler handler = player.getCapability(Capabilities.ItemHandler.ENTITY, null);
             if (handler == null) return false;
 
-            long currentHash = 1;
-            for (int i = 0; i < handler.getSlots(); i++) {
-                ItemStack stack = handler.getStackInSlot(i);
-                if (stack.isEmpty()) {
-                    currentHash = 31 * currentHash;
-                } else {
-                    // Calculate a signature based on Item, Count, and Components
-                    long elementHash = System.identityHashCode(stack.getItem());
-                    elementHash = 31 * elementHash + stack.getCount();
-                    // Using isComponentsPatchEmpty check to be safe/consistent with Curios logic
-                    elementHash = 31 * elementHash + (!stack.isComponentsPatchEmpty() ? stack.getComponents().hashCode() : 0);
-
-                    currentHash = 31 * currentHash + elementHash;
-                }
-            }
+            long currentHash = hashContents(handler);
 
             if (currentHash != lastStateHash) {
                 lastStateHash = currentHash;
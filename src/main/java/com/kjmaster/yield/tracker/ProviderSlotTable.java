@@ -0,0 +1,218 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.service.IInventoryProvider;
+import com.kjmaster.yield.service.InventoryScanner;
+import com.kjmaster.yield.service.NestedContainerWalker;
+import com.kjmaster.yield.service.ProviderSnapshot;
+import com.kjmaster.yield.service.StackVisitor;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Incremental match state for a single inventory provider.
+ * Keeps a fingerprint and the matched contribution of every top-level slot, so an incremental pass
+ * only re-matches the slots whose fingerprint changed and adjusts the provider totals by the
+ * old-versus-new contribution of those slots.
+ * <p>
+ * Containers (Backpacks, etc.) are the exception: their contents can change without touching the container's own
+ * fingerprint, so they are walked on every pass. The walker replays unchanged containers from its memo, and a slot
+ * whose matched contents come out the same is not counted as changed.
+ * <p>
+ * A table is only valid for the {@link GoalMatcherIndex} it was built with.
+ * <p>
+ * Slots whose nested contents were cut short by the walker budget are never treated as up to date: they count the
+ * walker's best known contents meanwhile, and are re-matched on later passes while the walker resumes them
+ * (see {@link #shouldRetryIncompleteSlots()}).
+ */
+class ProviderSlotTable {
+    private static final int[] NO_CONTRIBUTION = new int[0];
+    // Passes in a row with incomplete slots after which retries are left to the periodic full rescan
+    private static final int MAX_INCOMPLETE_PASSES = 20;
+
+    private final GoalMatcherIndex index;
+    private final int[] totals;
+    private final int[] scratch;
+
+    private long[] fingerprints = new long[0];
+    // Packed (goalIndex, amount) pairs per slot
+    private int[][] contributions = new int[0][];
+    private int slotCount = 0;
+    private int incompleteSlots = 0;
+    private int incompletePasses = 0;
+
+    // Incremental pass state (Main Thread only)
+    private final ObjIntConsumer<ItemStack> slotVisitor = this::visitSlot;
+    private final StackVisitor scratchAccumulator;
+    private IInventoryProvider currentProvider;
+    private NestedContainerWalker currentWalker;
+    private int seenSlots;
+    private int changedSlots;
+
+    ProviderSlotTable(GoalMatcherIndex index) {
+        this.index = index;
+        this.totals = new int[index.size()];
+        this.scratch = new int[index.size()];
+        this.scratchAccumulator = (item, count, patch) -> index.accumulate(item, count, patch, scratch);
+    }
+
+    /**
+     * Builds a table from a captured snapshot. Safe to run off the main thread.
+     */
+    static ProviderSlotTable fromSnapshot(ProviderSnapshot snapshot, GoalMatcherIndex index) {
+        ProviderSlotTable table = new ProviderSlotTable(index);
+        int slots = snapshot.slotCount();
+        table.ensureCapacity(slots);
+
+        int[] offsets = snapshot.slotOffsets();
+        Item[] items = snapshot.items();
+        int[] counts = snapshot.counts();
+        DataComponentPatch[] patches = snapshot.patches();
+        for (int slot = 0; slot < slots; slot++) {
+            for (int i = offsets[slot]; i < offsets[slot + 1]; i++) {
+                index.accumulate(items[i], counts[i], patches[i], table.scratch);
+            }
+            table.fingerprints[slot] = snapshot.fingerprints()[slot];
+            table.setContribution(slot, table.drainScratch());
+            if (table.fingerprints[slot] == InventoryScanner.INCOMPLETE_FINGERPRINT) table.incompleteSlots++;
+        }
+        table.slotCount = slots;
+        table.incompletePasses = table.incompleteSlots > 0 ? 1 : 0;
+        return table;
+    }
+
+    /**
+     * Compares the provider's live slots against the stored fingerprints and re-matches only the changed ones.
+     * MUST be called on the Main Thread.
+     *
+     * @return The number of slots that were re-matched.
+     */
+    int update(Player player, IInventoryProvider provider, NestedContainerWalker walker) {
+        this.currentProvider = provider;
+        this.currentWalker = walker;
+        this.seenSlots = 0;
+        this.changedSlots = 0;
+        this.incompleteSlots = 0;
+
+        provider.forEachSlot(player, slotVisitor);
+
+        // Provider shrank (e.g. Curios slot removed): drop the trailing slots
+        for (int slot = seenSlots; slot < slotCount; slot++) {
+            setContribution(slot, NO_CONTRIBUTION);
+            fingerprints[slot] = 0;
+            changedSlots++;
+        }
+        slotCount = seenSlots;
+        incompletePasses = incompleteSlots > 0 ? incompletePasses + 1 : 0;
+        this.currentProvider = null;
+        this.currentWalker = null;
+        return changedSlots;
+    }
+
+    private void visitSlot(ItemStack stack, int slot) {
+        seenSlots = Math.max(seenSlots, slot + 1);
+        if (slot >= slotCount) {
+            ensureCapacity(slot + 1);
+            slotCount = slot + 1;
+        }
+
+        long fingerprint = InventoryScanner.fingerprint(stack);
+        boolean container = currentWalker.hasNestedContents(stack);
+        if (!container && fingerprint == fingerprints[slot] && contributions[slot] != null) return;
+
+        // Live stacks are safe to read here: the pass runs entirely on the Main Thread
+        boolean complete = currentProvider.visitContents(stack, currentWalker, scratchAccumulator);
+        if (!complete) incompleteSlots++;
+        // Cut short by the budget: count the walker's best known contents, but never treat the slot as up to date
+        fingerprints[slot] = complete ? fingerprint : InventoryScanner.INCOMPLETE_FINGERPRINT;
+        if (contributions[slot] != null && scratchMatches(contributions[slot])) {
+            clearScratch();
+            return;
+        }
+        setContribution(slot, drainScratch());
+        changedSlots++;
+    }
+
+    /**
+     * @return true if some slots could not be matched completely and should be retried on a later pass.
+     * Gives up after {@link #MAX_INCOMPLETE_PASSES} passes in a row, e.g. for a container that changes faster than
+     * the walker can finish it, leaving the slots to the periodic full rescan.
+     */
+    boolean shouldRetryIncompleteSlots() {
+        return incompleteSlots > 0 && incompletePasses < MAX_INCOMPLETE_PASSES;
+    }
+
+    int[] totals() {
+        return totals;
+    }
+
+    GoalMatcherIndex index() {
+        return index;
+    }
+
+    private void setContribution(int slot, int[] contribution) {
+        int[] old = contributions[slot];
+        if (old != null) {
+            for (int i = 0; i < old.length; i += 2) {
+                totals[old[i]] -= old[i + 1];
+            }
+        }
+        for (int i = 0; i < contribution.length; i += 2) {
+            totals[contribution[i]] += contribution[i + 1];
+        }
+        contributions[slot] = contribution;
+    }
+
+    /**
+     * Packs the non-zero scratch counts into (goalIndex, amount) pairs and clears the scratch buffer.
+     */
+    private int[] drainScratch() {
+        int matched = 0;
+        for (int count : scratch) {
+            if (count != 0) matched++;
+        }
+        if (matched == 0) return NO_CONTRIBUTION;
+
+        int[] packed = new int[matched * 2];
+        int p = 0;
+        for (int goal = 0; goal < scratch.length; goal++) {
+            if (scratch[goal] != 0) {
+                packed[p++] = goal;
+                packed[p++] = scratch[goal];
+                scratch[goal] = 0;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * @return true if the scratch buffer holds exactly the given packed contribution.
+     */
+    private boolean scratchMatches(int[] contribution) {
+        int matched = 0;
+        for (int count : scratch) {
+            if (count != 0) matched++;
+        }
+        if (matched * 2 != contribution.length) return false;
+
+        for (int i = 0; i < contribution.length; i += 2) {
+            if (scratch[contribution[i]] != contribution[i + 1]) return false;
+        }
+        return true;
+    }
+
+    private void clearScratch() {
+        Arrays.fill(scratch, 0);
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= fingerprints.length) return;
+        int newLength = Math.max(slots, fingerprints.length * 2);
+        fingerprints = Arrays.copyOf(fingerprints, newLength);
+        contributions = Arrays.copyOf(contributions, newLength);
+    }
+}
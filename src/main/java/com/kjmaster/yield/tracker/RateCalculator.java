@@ -1,64 +1,76 @@
 package com.kjmaster.yield.tracker;
 
 import com.kjmaster.yield.time.TimeSource;
+import it.unimi.dsi.fastutil.HashCommon;
+
+/**
+ * Sliding window rate with game-tick (50ms) resolution, coarsened for long windows.
+ * <p>
+ * Gains are stored as (bucket, amount) entries in a ring, oldest first, with at most one entry per bucket.
+ * A bucket is one tick, or several for windows longer than {@link #MAX_BUCKETS} ticks, so the ring is sized once
+ * from the window and gains never allocate. Entries are expired from the head as time moves on, so gains and reads
+ * are amortized O(1) no matter how long the player was idle, and there is no per-second catch-up loop.
+ */
+public class RateCalculator implements RateEstimator {
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int MAX_BUCKETS = 1024;
+    private static final double MIN_SAMPLE_DURATION = 10.0;
 
-import java.util.Arrays;
-
-public class RateCalculator {
-    private final int[] buckets;
     private final int windowSeconds;
+    private final long bucketTicks;
+    private final long windowBuckets;
     private final TimeSource timeSource;
 
-    private long lastSecTimestamp = 0;
-    private double startTime = 0;
-    private int currentBucketIndex = 0;
+    // Gain Ring (Oldest at head). Holds every bucket of one window, so it never fills up.
+    private final long[] entryBuckets;
+    private final int[] entryAmounts;
+    private final int mask;
+    private int head = 0;
+    private int size = 0;
     private int runningSum = 0;
 
-    private static final double MIN_SAMPLE_DURATION = 10.0;
+    private boolean started = false;
+    private double startTime = 0;
 
     public RateCalculator(int windowSeconds, TimeSource timeSource) {
         this.windowSeconds = windowSeconds;
-        this.buckets = new int[windowSeconds];
+        long windowTicks = Math.max(1, (long) windowSeconds * TICKS_PER_SECOND);
+        this.bucketTicks = (windowTicks + MAX_BUCKETS - 1) / MAX_BUCKETS;
+        this.windowBuckets = (windowTicks + bucketTicks - 1) / bucketTicks;
         this.timeSource = timeSource;
+
+        int capacity = HashCommon.nextPowerOfTwo((int) windowBuckets + 1);
+        this.entryBuckets = new long[capacity];
+        this.entryAmounts = new int[capacity];
+        this.mask = capacity - 1;
     }
 
+    @Override
     public void addGain(int amount) {
         if (amount <= 0) return;
-        tick();
-        buckets[currentBucketIndex] += amount;
-        runningSum += amount;
-    }
-
-    private void tick() {
-        long nowSec = (long) timeSource.getTimeSeconds();
-
-        if (lastSecTimestamp == 0) {
-            lastSecTimestamp = nowSec;
-            startTime = timeSource.getTimeSeconds();
-            return;
+        long nowBucket = advance();
+
+        // Same bucket as the newest entry (or time stepped backwards): merge into it
+        // The full-ring check is only a safeguard; one window never holds more buckets than the ring
+        if (size > 0) {
+            int tail = (head + size - 1) & mask;
+            if (entryBuckets[tail] >= nowBucket || size == entryBuckets.length) {
+                entryAmounts[tail] += amount;
+                runningSum += amount;
+                return;
+            }
         }
 
-        long diff = nowSec - lastSecTimestamp;
-        if (diff == 0) return;
-
-        // Reset if gap exceeds window
-        if (diff >= windowSeconds) {
-            clearBuckets();
-            lastSecTimestamp = nowSec;
-            return;
-        }
-
-        // Rolling window update
-        for (int i = 0; i < diff; i++) {
-            currentBucketIndex = (currentBucketIndex + 1) % windowSeconds;
-            runningSum -= buckets[currentBucketIndex];
-            buckets[currentBucketIndex] = 0;
-        }
-        lastSecTimestamp = nowSec;
+        int tail = (head + size) & mask;
+        entryBuckets[tail] = nowBucket;
+        entryAmounts[tail] = amount;
+        size++;
+        runningSum += amount;
     }
 
+    @Override
     public double getItemsPerHour() {
-        tick();
+        advance();
         if (runningSum == 0) return 0.0;
 
         double nowSec = timeSource.getTimeSeconds();
@@ -71,16 +83,36 @@ public class RateCalculator {
         return runningSum * (3600.0 / divisor);
     }
 
+    @Override
     public void clear() {
-        clearBuckets();
-        lastSecTimestamp = 0;
+        head = 0;
+        size = 0;
+        runningSum = 0;
+        started = false;
         startTime = 0;
         timeSource.reset();
     }
 
-    private void clearBuckets() {
-        Arrays.fill(buckets, 0);
-        runningSum = 0;
-        currentBucketIndex = 0;
+    /**
+     * Drops every entry that has left the window.
+     *
+     * @return The current bucket.
+     */
+    private long advance() {
+        double nowSec = timeSource.getTimeSeconds();
+        if (!started) {
+            started = true;
+            startTime = nowSec;
+        }
+
+        long nowTick = (long) Math.floor(nowSec * TICKS_PER_SECOND);
+        long nowBucket = Math.floorDiv(nowTick, bucketTicks);
+        long oldestValid = nowBucket - windowBuckets;
+        while (size > 0 && entryBuckets[head] <= oldestValid) {
+            runningSum -= entryAmounts[head];
+            head = (head + 1) & mask;
+            size--;
+        }
+        return nowBucket;
     }
-}
\ No newline at end of file
+}
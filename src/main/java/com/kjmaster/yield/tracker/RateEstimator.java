@@ -0,0 +1,30 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.Config;
+import com.kjmaster.yield.project.RateMode;
+import com.kjmaster.yield.time.TimeSource;
+
+/**
+ * Turns a stream of gains into an items/hour rate.
+ * Implementations must be O(1) (amortized) per gain and must not allocate in steady state,
+ * since every goal tracker owns one.
+ */
+public interface RateEstimator {
+
+    void addGain(int amount);
+
+    double getItemsPerHour();
+
+    void clear();
+
+    static RateEstimator create(RateMode mode, TimeSource timeSource) {
+        return create(mode, Config.RATE_WINDOW.get(), timeSource);
+    }
+
+    static RateEstimator create(RateMode mode, int windowSeconds, TimeSource timeSource) {
+        return switch (mode) {
+            case WINDOW -> new RateCalculator(windowSeconds, timeSource);
+            case EWMA -> new EwmaRateEstimator(windowSeconds, timeSource);
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.kjmaster.yield.tracker;
+
+import com.kjmaster.yield.Yield;
+import com.kjmaster.yield.metrics.YieldMetrics;
+import com.kjmaster.yield.service.ProviderSnapshot;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Single-producer pipeline for full inventory scans.
+ * <p>
+ * The client thread publishes snapshots into a single pending slot; a newer snapshot replaces one that has not
+ * started yet, so bursts of changes coalesce instead of queueing. One worker at a time drains the slot, and
+ * results are handed back to the client thread, where anything older than the latest applied or invalidated
+ * generation is discarded.
+ */
+class ScanPipeline {
+
+    record ScanJob(long generation, GoalMatcherIndex index, List<ProviderSnapshot> snapshot, long submittedNanos) {
+    }
+
+    private final Executor workerExecutor;
+    private final Executor mainThread;
+    private final Function<ScanJob, List<ProviderSlotTable>> matcher;
+    private final BiConsumer<ScanJob, List<ProviderSlotTable>> resultHandler;
+
+    // Shared with the worker
+    private final AtomicReference<ScanJob> pending = new AtomicReference<>();
+    private final AtomicBoolean workerActive = new AtomicBoolean(false);
+
+    // Client thread only
+    private long latestGeneration = 0;
+    private long settledGeneration = 0;
+    private long appliedGeneration = 0;
+    private long invalidatedGeneration = 0;
+    private GoalMatcherIndex latestIndex;
+
+    ScanPipeline(Executor workerExecutor, Executor mainThread,
+                 Function<ScanJob, List<ProviderSlotTable>> matcher,
+                 BiConsumer<ScanJob, List<ProviderSlotTable>> resultHandler) {
+        this.workerExecutor = workerExecutor;
+        this.mainThread = mainThread;
+        this.matcher = matcher;
+        this.resultHandler = resultHandler;
+    }
+
+    /**
+     * Publishes a snapshot for matching. Client thread only.
+     */
+    void submit(GoalMatcherIndex index, List<ProviderSnapshot> snapshot) {
+        ScanJob job = new ScanJob(++latestGeneration, index, snapshot, System.nanoTime());
+        this.latestIndex = index;
+
+        // Coalesce: an older job that hasn't been picked up yet is simply replaced
+        pending.set(job);
+        startWorker();
+    }
+
+    /**
+     * Matches and applies a snapshot directly on the client thread.
+     * Any job still pending or in flight is older than this one, so its result will be discarded.
+     */
+    void runInline(GoalMatcherIndex index, List<ProviderSnapshot> snapshot) {
+        ScanJob job = new ScanJob(++latestGeneration, index, snapshot, System.nanoTime());
+        this.latestIndex = index;
+        pending.set(null);
+        complete(job, matcher.apply(job));
+    }
+
+    /**
+     * @return true while a submitted job has not been applied or discarded yet.
+     */
+    boolean isBusy() {
+        return latestGeneration > settledGeneration;
+    }
+
+    /**
+     * @return The index of the most recently submitted job.
+     */
+    GoalMatcherIndex getLatestIndex() {
+        return latestIndex;
+    }
+
+    /**
+     * Discards every job submitted so far, including one currently being matched.
+     */
+    void invalidate() {
+        pending.set(null);
+        invalidatedGeneration = latestGeneration;
+        settledGeneration = latestGeneration;
+        latestIndex = null;
+    }
+
+    private void startWorker() {
+        if (workerActive.compareAndSet(false, true)) {
+            workerExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs on the worker thread.
+     */
+    private void drain() {
+        try {
+            ScanJob job;
+            while ((job = pending.getAndSet(null)) != null) {
+                if (YieldMetrics.isEnabled()) YieldMetrics.QUEUE_WAIT.recordSince(job.submittedNanos());
+
+                List<ProviderSlotTable> result = null;
+                try {
+                    result = matcher.apply(job);
+                } catch (Exception e) {
+                    Yield.LOGGER.error("Inventory matching failed for scan {}", job.generation(), e);
+                }
+
+                ScanJob completed = job;
+                List<ProviderSlotTable> completedResult = result;
+                mainThread.execute(() -> complete(completed, completedResult));
+            }
+        } finally {
+            workerActive.set(false);
+        }
+
+        // A job may have been published after the last poll but before the flag was released
+        if (pending.get() != null) {
+            startWorker();
+        }
+    }
+
+    /**
+     * Runs on the client thread.
+     */
+    private void complete(ScanJob job, List<ProviderSlotTable> result) {
+        settledGeneration = Math.max(settledGeneration, job.generation());
+
+        // Stale: invalidated by a reset, or overtaken by a newer result
+        if (result == null || job.generation() <= invalidatedGeneration || job.generation() < appliedGeneration) {
+            return;
+        }
+
+        appliedGeneration = job.generation();
+        resultHandler.accept(job, result);
+    }
+}
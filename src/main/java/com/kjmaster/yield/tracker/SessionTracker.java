@@ -7,6 +7,7 @@ import com.kjmaster.yield.event.internal.YieldEventBus;
 import com.kjmaster.yield.event.internal.YieldEvents;
 import com.kjmaster.yield.project.ProjectGoal;
 import com.kjmaster.yield.project.YieldProject;
+import com.kjmaster.yield.service.InventoryScanner;
 import net.minecraft.world.entity.player.Player;
 
 import java.util.Optional;
@@ -28,8 +29,16 @@ public class SessionTracker implements ISessionStatus, ISessionController {
         this.projectProvider = projectProvider;
         this.eventBus = eventBus;
         this.state = new TrackerState();
-        this.monitor = new InventoryMonitor();
-        this.engine = new TrackerEngine(state, monitor);
+        InventoryScanner scanner = new InventoryScanner();
+        this.monitor = new InventoryMonitor(scanner.getProviders());
+        this.engine = new TrackerEngine(state, monitor, scanner);
+        registerEvents();
+    }
+
+    private void registerEvents() {
+        // Tracker reconciliation is event-driven; idle ticks do no bookkeeping
+        eventBus.register(YieldEvents.ActiveProjectChanged.class, event -> engine.invalidateBinding());
+        eventBus.register(YieldEvents.ProjectUpdated.class, event -> engine.invalidateBinding());
     }
 
     public InventoryMonitor getMonitor() {
@@ -52,6 +61,8 @@ public class SessionTracker implements ISessionStatus, ISessionController {
 
     @Override
     public void stopSession() {
+        // Memoized container contents are only used while tracking. Also runs when leaving the world.
+        engine.clearContainerCache();
         if (!isRunning) return;
         isRunning = false;
         eventBus.post(new YieldEvents.SessionStopped());
@@ -64,7 +75,12 @@ public class SessionTracker implements ISessionStatus, ISessionController {
 
     @Override
     public void setDirty() {
-        monitor.markAllDirty();
+        monitor.markDirtyFromEvent();
+    }
+
+    @Override
+    public void setDirty(String providerId) {
+        monitor.markDirtyFromEvent(providerId);
     }
 
     @Override
@@ -75,16 +91,19 @@ public class SessionTracker implements ISessionStatus, ISessionController {
 
     @Override
     public GoalTracker getTracker(ProjectGoal goal) {
-        // 1. Look up by UUID (Persistent Identity)
-        GoalTracker tracker = state.getTrackers().computeIfAbsent(
-                goal.id(),
-                uuid -> new GoalTracker(goal, engine.getTimeSource())
-        );
-
-        // 2. Sync Definition
-        tracker.updateGoalDefinition(goal);
+        return getTracker(goal, -1);
+    }
 
-        return tracker;
+    @Override
+    public GoalTracker getTracker(ProjectGoal goal, int slotHint) {
+        // 1. Bound goals resolve to a dense slot (Array access when the hint is correct)
+        int slot = state.slotOf(goal, slotHint);
+        if (slot >= 0) {
+            return state.getTracker(slot);
+        }
+
+        // 2. Goals outside the active project get a detached tracker
+        return state.getDetachedTracker(goal, engine.getTimeSource());
     }
 
     @Override
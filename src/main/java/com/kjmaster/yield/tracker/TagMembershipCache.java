@@ -0,0 +1,89 @@
+package com.kjmaster.yield.tracker;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+
+import java.util.List;
+
+/**
+ * Item registry ID to bitset of tags, for the distinct tags of one goal index.
+ * Turns a tag goal check into a registry ID lookup plus a bit test, instead of a holder tag lookup per tag.
+ * <p>
+ * Instances are immutable and safe to read from the async matcher. They capture tag contents at build time,
+ * so every instance goes stale when tags are reloaded (datapack reload, server join).
+ */
+public final class TagMembershipCache {
+
+    // Bumped on every tag reload (Client Thread only)
+    private static int currentGeneration = 0;
+
+    private final List<TagKey<Item>> tags;
+    private final int generation;
+    private final int words;
+    // Flattened [itemId * words + word]
+    private final long[] bits;
+    private final int itemCount;
+
+    private TagMembershipCache(List<TagKey<Item>> tags, int words, long[] bits, int itemCount) {
+        this.tags = tags;
+        this.generation = currentGeneration;
+        this.words = words;
+        this.bits = bits;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Marks every existing cache as stale. Called when the client receives new tags.
+     */
+    public static void invalidateAll() {
+        currentGeneration++;
+    }
+
+    /**
+     * Builds the membership bitsets. Bit {@code t} of an item is set if it is in {@code tags.get(t)}.
+     */
+    static TagMembershipCache build(List<TagKey<Item>> tags) {
+        int words = (tags.size() + 63) >>> 6;
+        int itemCount = BuiltInRegistries.ITEM.size();
+        long[] bits = new long[itemCount * words];
+
+        for (int t = 0; t < tags.size(); t++) {
+            for (Holder<Item> holder : BuiltInRegistries.ITEM.getTagOrEmpty(tags.get(t))) {
+                int id = BuiltInRegistries.ITEM.getId(holder.value());
+                if (id >= 0 && id < itemCount) {
+                    bits[id * words + (t >>> 6)] |= 1L << (t & 63);
+                }
+            }
+        }
+        return new TagMembershipCache(List.copyOf(tags), words, bits, itemCount);
+    }
+
+    /**
+     * @return true if no tag reload happened since this cache was built.
+     */
+    boolean isCurrent() {
+        return generation == currentGeneration;
+    }
+
+    boolean isBuiltFor(List<TagKey<Item>> otherTags) {
+        return tags.equals(otherTags);
+    }
+
+    int words() {
+        return words;
+    }
+
+    /**
+     * @return The offset of the item's first bitset word, or -1 if the item is unknown to the cache.
+     */
+    int offsetOf(Item item) {
+        int id = BuiltInRegistries.ITEM.getId(item);
+        return id >= 0 && id < itemCount ? id * words : -1;
+    }
+
+    long word(int offset) {
+        return bits[offset];
+    }
+}
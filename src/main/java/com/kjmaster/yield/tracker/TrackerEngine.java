@@ -1,9 +1,14 @@
 package com.kjmaster.yield.tracker;
 
 import com.kjmaster.yield.Config;
+import com.kjmaster.yield.metrics.YieldMetrics;
 import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.project.RateMode;
 import com.kjmaster.yield.project.YieldProject;
+import com.kjmaster.yield.service.IInventoryProvider;
 import com.kjmaster.yield.service.InventoryScanner;
+import com.kjmaster.yield.service.ProviderSnapshot;
+import com.kjmaster.yield.service.ResumableSnapshot;
 import com.kjmaster.yield.time.GameTickSource;
 import com.kjmaster.yield.time.TimeSource;
 import com.kjmaster.yield.util.ItemMatcher;
@@ -14,35 +19,57 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class TrackerEngine {
 
+    // Restarts after which a spread-out snapshot is finished in a single tick, so constant changes can't starve it
+    private static final int MAX_SNAPSHOT_RESTARTS = 3;
+
     private final TrackerState state;
     private final InventoryMonitor monitor;
     private final InventoryScanner scanner;
     private final TimeSource timeSource;
 
-    private RateCalculator xpCalculator;
+    private RateEstimator xpCalculator;
+    private RateMode xpRateMode = RateMode.WINDOW;
     private int tickCounter = 0;
     private double cachedXpRate = 0.0;
 
     private final Map<EquipmentSlot, ItemStack> lastEquipment = new EnumMap<>(EquipmentSlot.class);
     private int lastSelectedSlot = -1;
 
+    // Project the tracker slots were last reconciled against (YieldProject is immutable, so identity suffices)
+    private YieldProject boundProject;
+
+    // Compiled Goal Lookup (Rebuilt only when the goal list changes)
+    private GoalMatcherIndex matcherIndex;
+
+    // Per-Provider Match State (One table per provider, valid only for the index it was built with)
+    // Also serves as the cached partial counts of providers that were not dirty in a scan
+    private List<ProviderSlotTable> slotTables;
+    private int ticksSinceFullScan = 0;
+
+    // Full scan snapshot still being walked across ticks (null when none is in progress)
+    private ResumableSnapshot pendingSnapshot;
+
     // Concurrency Controls
     // Use Virtual Threads if available (Java 21), otherwise fallback implicitly handled by Executors.newVirtualThreadPerTaskExecutor()
     private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
-    private final AtomicBoolean isProcessing = new AtomicBoolean(false);
+    private final ScanPipeline pipeline;
 
-    public TrackerEngine(TrackerState state, InventoryMonitor monitor) {
+    public TrackerEngine(TrackerState state, InventoryMonitor monitor, InventoryScanner scanner) {
         this.state = state;
         this.monitor = monitor;
-        this.scanner = new InventoryScanner();
+        this.scanner = scanner;
         this.timeSource = new GameTickSource();
+        this.pipeline = new ScanPipeline(
+                asyncExecutor,
+                task -> Minecraft.getInstance().execute(task), // Apply results on Render Thread
+                TrackerEngine::matchJob,
+                this::applyFullScan
+        );
     }
 
     public TimeSource getTimeSource() {
@@ -50,14 +77,35 @@ public class TrackerEngine {
     }
 
     public void reset() {
-        this.xpCalculator = new RateCalculator(Config.RATE_WINDOW.get(), timeSource);
+        this.xpRateMode = RateMode.WINDOW;
+        this.xpCalculator = RateEstimator.create(xpRateMode, timeSource);
         this.xpCalculator.clear();
         this.tickCounter = 0;
         this.cachedXpRate = 0.0;
-        this.isProcessing.set(false);
+        this.pipeline.invalidate();
+        this.boundProject = null;
+        this.matcherIndex = null;
+        this.slotTables = null;
+        this.ticksSinceFullScan = 0;
+        this.pendingSnapshot = null;
         this.timeSource.reset();
     }
 
+    /**
+     * Drops the nested walker's memoized and partially walked containers.
+     */
+    public void clearContainerCache() {
+        scanner.getWalker().clearCache();
+    }
+
+    /**
+     * Forces tracker reconciliation on the next tick.
+     * Called when the project manager publishes a new project state.
+     */
+    public void invalidateBinding() {
+        this.boundProject = null;
+    }
+
     public double getXpRate() {
         return cachedXpRate;
     }
@@ -69,8 +117,10 @@ public class TrackerEngine {
     public void onTick(Player player, YieldProject project) {
         if (xpCalculator == null) return;
 
-        // 1. Sync Trackers (Main Thread - Lightweight)
-        syncTrackers(project);
+        // 1. Sync Trackers (Main Thread - Only when the project instance changed)
+        if (project != boundProject) {
+            syncTrackers(project);
+        }
 
         // 2. XP Logic (Main Thread - Lightweight)
         if (project.trackXp()) {
@@ -81,8 +131,25 @@ public class TrackerEngine {
         // Check native changes to set dirty flag
         monitor.checkForNativeChanges(player);
 
-        if (monitor.isDirty() && !isProcessing.get()) {
-            dispatchScan(player, project);
+        if (pendingSnapshot != null) {
+            // A full scan is being captured over several ticks: finish it before scheduling anything else
+            continueSnapshot(player, project);
+        } else {
+            // Tags were reloaded: tag goal counts must be recomputed against the new membership
+            if (matcherIndex != null && !matcherIndex.isTagCacheCurrent()) {
+                monitor.markAllDirty();
+            }
+
+            // Periodic consistency check: incremental deltas can miss changes that don't alter a slot's fingerprint
+            ticksSinceFullScan++;
+            boolean fullScanDue = ticksSinceFullScan >= Config.FULL_RESCAN_INTERVAL.get() * 20;
+            if (fullScanDue) {
+                monitor.markAllDirty();
+            }
+
+            if (monitor.isDirty()) {
+                dispatchScan(player, project, fullScanDue);
+            }
         }
 
         // 4. Rate Updates (Every 20 ticks)
@@ -93,74 +160,240 @@ public class TrackerEngine {
         }
     }
 
-    private void dispatchScan(Player player, YieldProject project) {
-        isProcessing.set(true);
+    private void dispatchScan(Player player, YieldProject project, boolean forceFullScan) {
+        // Recompile the goal index only if the goal list itself was replaced
+        GoalMatcherIndex index = getMatcherIndex(project);
+        int dirtyScopes = monitor.getDirtyScopes();
+
+        if (pipeline.isBusy()) {
+            // A full scan against this goal list is already in flight. In incremental mode its result is
+            // followed by a catch-up pass, so the dirty flag is simply kept until then.
+            if (Config.INCREMENTAL_SCAN.get() && pipeline.getLatestIndex() == index) {
+                if (forceFullScan) ticksSinceFullScan = 0;
+                return;
+            }
+        } else if (!forceFullScan && canScanIncrementally(index)) {
+            monitor.clearDirty();
+            scanner.beginScan(false);
+            runIncrementalScan(player, dirtyScopes);
+            return;
+        }
+
+        // Clean providers keep their cached tables, unless this is the consistency rescan or the goals changed.
+        // A job still in flight is superseded by this one (its result is discarded, or it is dropped before
+        // matching), and the dirty bits it was captured for are already cleared: cover every provider instead.
+        int scanScopes = dirtyScopes;
+        if (forceFullScan || !hasTablesFor(index) || pipeline.isBusy()) {
+            scanScopes = monitor.getAllScopes();
+            ticksSinceFullScan = 0;
+        }
 
         // A. Capture Snapshot (Main Thread)
-        // This copies ItemStacks, ensuring thread safety
-        List<ItemStack> snapshot = scanner.createSnapshot(player);
+        // This captures immutable stack data, ensuring thread safety without copying ItemStacks.
+        // Large inventories are walked over several ticks, within the configured per-tick budget.
+        pendingSnapshot = scanner.beginSnapshot(scanScopes, forceFullScan, monitor.getGeneration());
 
-        // Reset dirty flag immediately after snapshot
+        // Reset dirty flag: later changes either restart the walk or are captured by the next snapshot or catch-up pass
         monitor.clearDirty();
+        continueSnapshot(player, project);
+    }
+
+    /**
+     * Advances the pending snapshot walk by one tick's budget, and dispatches it for matching once it is finished.
+     */
+    private void continueSnapshot(Player player, YieldProject project) {
+        ResumableSnapshot walk = pendingSnapshot;
+
+        // The inventory changed mid-walk: slots captured on earlier ticks may disagree with the rest, so start over
+        if (monitor.getGeneration() != walk.getGeneration()) {
+            walk.restart(walk.getScopes() | monitor.getDirtyScopes(), monitor.getGeneration());
+            monitor.clearDirty();
+        }
+
+        int maxSlots = Config.SCAN_SLOTS_PER_TICK.get();
+        boolean unbounded = maxSlots == 0 || walk.getRestarts() >= MAX_SNAPSHOT_RESTARTS;
+        long deadline = unbounded ? Long.MAX_VALUE : System.nanoTime() + Config.SCAN_TICK_BUDGET.get() * 1000L;
+        long start = YieldMetrics.start();
+        boolean finished = walk.advance(player, unbounded ? Integer.MAX_VALUE : maxSlots, deadline);
+        YieldMetrics.stop(YieldMetrics.SNAPSHOT_TIME, start);
+        if (!finished) {
+            return; // Continues next tick
+        }
+
+        pendingSnapshot = null;
+        dispatchSnapshot(getMatcherIndex(project), walk.getResult());
+    }
+
+    private void dispatchSnapshot(GoalMatcherIndex index, List<ProviderSnapshot> snapshot) {
+        // B. Process Logic. Small workloads are matched inline to avoid the thread hop and a frame of lag.
+        long stacks = countStacks(snapshot);
+        long work = stacks * Math.max(1, index.size());
+        boolean inline = work < Config.INLINE_MATCH_THRESHOLD.get();
+        if (YieldMetrics.isEnabled()) {
+            YieldMetrics.SNAPSHOT_STACKS.record(stacks);
+            YieldMetrics.SCAN_WORK.record(work);
+            (inline ? YieldMetrics.INLINE_SCANS : YieldMetrics.ASYNC_SCANS).increment();
+        }
+
+        if (inline) {
+            pipeline.runInline(index, snapshot);
+        } else {
+            // Async Thread. Replaces any snapshot still waiting for the worker.
+            pipeline.submit(index, snapshot);
+        }
+    }
 
-        // B. Process Logic (Async Thread)
-        CompletableFuture.supplyAsync(() -> performMatching(snapshot, project), asyncExecutor)
-                .thenAcceptAsync(results -> {
-                    // C. Apply Results (Main Thread)
-                    applyResults(results);
-                    isProcessing.set(false);
-                }, Minecraft.getInstance()); // Execute callback on Render Thread
+    private static long countStacks(List<ProviderSnapshot> snapshot) {
+        long stacks = 0;
+        for (ProviderSnapshot providerSnapshot : snapshot) {
+            if (providerSnapshot != null) stacks += providerSnapshot.stackCount();
+        }
+        return stacks;
     }
 
     /**
-     * Runs on Virtual Thread. matches snapshot against goals.
+     * C. Apply Results (Main Thread). Only called for the newest non-stale scan generation.
      */
-    private Map<UUID, Integer> performMatching(List<ItemStack> snapshot, YieldProject project) {
-        Map<UUID, Integer> counts = new HashMap<>();
+    private void applyFullScan(ScanPipeline.ScanJob job, List<ProviderSlotTable> tables) {
+        long start = YieldMetrics.start();
+        List<ProviderSlotTable> merged = mergeWithCachedTables(job.index(), tables);
+        if (merged == null) {
+            // Cached tables were replaced by another goal list meanwhile: rescan everything
+            monitor.markAllDirty();
+            return;
+        }
+
+        this.slotTables = merged;
+        applyResults(job.index(), merged);
+        YieldMetrics.stop(YieldMetrics.APPLY_TIME, start);
+        if (YieldMetrics.isEnabled()) YieldMetrics.FULL_SCANS.increment();
 
-        // Initialize counts to 0
-        for (ProjectGoal goal : project.goals()) {
-            counts.put(goal.id(), 0);
+        // Slots may have changed while an async scan was in flight; the next incremental pass catches up
+        if (Config.INCREMENTAL_SCAN.get()) {
+            if (!pipeline.isBusy()) monitor.markDirty();
+            retryIncompleteSlots(merged);
         }
+    }
 
-        // Scan snapshot
-        for (ItemStack stack : snapshot) {
-            if (stack.isEmpty()) continue;
+    /**
+     * Marks the providers whose slots were cut short by the nested walker budget, so the next incremental pass
+     * resumes them with a fresh budget. Bounded per table, see {@link ProviderSlotTable#shouldRetryIncompleteSlots()}.
+     */
+    private void retryIncompleteSlots(List<ProviderSlotTable> tables) {
+        List<IInventoryProvider> providers = scanner.getProviders();
+        for (int i = 0; i < tables.size(); i++) {
+            if (tables.get(i).shouldRetryIncompleteSlots()) monitor.markProviderDirty(providers.get(i).getId());
+        }
+    }
 
-            for (ProjectGoal goal : project.goals()) {
-                if (ItemMatcher.matches(stack, goal)) {
-                    counts.merge(goal.id(), stack.getCount(), Integer::sum);
-                }
-            }
+    /**
+     * Fills the providers skipped by a partial scan with their cached tables.
+     *
+     * @return The complete table list, or null if a skipped provider has no table for this index.
+     */
+    private List<ProviderSlotTable> mergeWithCachedTables(GoalMatcherIndex index, List<ProviderSlotTable> tables) {
+        if (!tables.contains(null)) return tables;
+        if (!hasTablesFor(index)) return null;
+
+        List<ProviderSlotTable> merged = new ArrayList<>(tables.size());
+        for (int i = 0; i < tables.size(); i++) {
+            ProviderSlotTable table = tables.get(i);
+            merged.add(table != null ? table : slotTables.get(i));
+        }
+        return merged;
+    }
+
+    private boolean hasTablesFor(GoalMatcherIndex index) {
+        return slotTables != null
+                && !slotTables.isEmpty()
+                && slotTables.getFirst().index() == index;
+    }
+
+    private boolean canScanIncrementally(GoalMatcherIndex index) {
+        return Config.INCREMENTAL_SCAN.get() && hasTablesFor(index);
+    }
+
+    /**
+     * Main Thread. Re-matches only the slots whose fingerprint changed since the last pass,
+     * in the providers that were marked dirty.
+     */
+    private void runIncrementalScan(Player player, int dirtyScopes) {
+        long start = YieldMetrics.start();
+        List<IInventoryProvider> providers = scanner.getProviders();
+        int changed = 0;
+        for (int i = 0; i < providers.size(); i++) {
+            if ((dirtyScopes & (1 << i)) == 0) continue;
+            changed += slotTables.get(i).update(player, providers.get(i), scanner.getWalker());
+        }
+        if (changed > 0) {
+            applyResults(slotTables.getFirst().index(), slotTables);
+        }
+        retryIncompleteSlots(slotTables);
+        YieldMetrics.stop(YieldMetrics.INCREMENTAL_TIME, start);
+        if (YieldMetrics.isEnabled()) YieldMetrics.INCREMENTAL_SCANS.increment();
+    }
+
+    private GoalMatcherIndex getMatcherIndex(YieldProject project) {
+        if (matcherIndex == null || !matcherIndex.isCompiledFrom(project.goals()) || !matcherIndex.isTagCacheCurrent()) {
+            matcherIndex = GoalMatcherIndex.compile(project.goals(), matcherIndex);
         }
-        return counts;
+        return matcherIndex;
     }
 
-    private void applyResults(Map<UUID, Integer> results) {
-        for (Map.Entry<UUID, Integer> entry : results.entrySet()) {
-            GoalTracker tracker = state.getTrackers().get(entry.getKey());
-            if (tracker != null) {
-                tracker.update(entry.getValue());
+    private static List<ProviderSlotTable> matchJob(ScanPipeline.ScanJob job) {
+        long start = YieldMetrics.start();
+        List<ProviderSlotTable> tables = performMatching(job.snapshot(), job.index());
+        YieldMetrics.stop(YieldMetrics.MATCH_TIME, start);
+        return tables;
+    }
+
+    /**
+     * Runs on Virtual Thread (or inline for small workloads). Matches the snapshot against goals,
+     * building one slot table per captured provider (null for providers the snapshot skipped).
+     */
+    static List<ProviderSlotTable> performMatching(List<ProviderSnapshot> snapshot, GoalMatcherIndex index) {
+        List<ProviderSlotTable> tables = new ArrayList<>(snapshot.size());
+        for (ProviderSnapshot providerSnapshot : snapshot) {
+            tables.add(providerSnapshot != null ? ProviderSlotTable.fromSnapshot(providerSnapshot, index) : null);
+        }
+        return tables;
+    }
+
+    private void applyResults(GoalMatcherIndex index, List<ProviderSlotTable> tables) {
+        // Results are indexed by slot; drop them if the goals were rebound since the index was compiled
+        if (!state.isBoundTo(index.goals())) {
+            monitor.markDirty();
+            return;
+        }
+
+        for (int slot = 0; slot < index.size(); slot++) {
+            int total = 0;
+            for (ProviderSlotTable table : tables) {
+                total += table.totals()[slot];
             }
+            state.applyCount(slot, total);
         }
     }
 
     private void syncTrackers(YieldProject project) {
+        this.boundProject = project;
+
         // We still need to create trackers for new goals on the main thread
         // to ensure the UI can query them immediately, even if counts are 0.
-        for (ProjectGoal goal : project.goals()) {
-            GoalTracker tracker = state.getTrackers().get(goal.id());
-            if (tracker == null) {
-                state.getTrackers().put(goal.id(), new GoalTracker(goal, this.timeSource));
-            } else {
-                tracker.updateGoalDefinition(goal);
-            }
+        boolean goalsChanged = !state.isBoundTo(project.goals());
+        if (goalsChanged || state.getRateMode() != project.rateMode()) {
+            state.bind(project.goals(), this.timeSource, project.rateMode());
+        }
+        if (goalsChanged) {
+            // New or edited goals need counts: rescan against the new goal list
+            monitor.markAllDirty();
         }
 
-        // Remove deleted
-        Set<UUID> activeIds = new java.util.HashSet<>();
-        project.goals().forEach(g -> activeIds.add(g.id()));
-        state.getTrackers().keySet().removeIf(id -> !activeIds.contains(id));
+        if (project.rateMode() != xpRateMode) {
+            this.xpRateMode = project.rateMode();
+            this.xpCalculator = RateEstimator.create(xpRateMode, timeSource);
+            this.cachedXpRate = 0.0;
+        }
     }
 
     private void updateXpTracking(Player player) {
@@ -214,9 +447,7 @@ public class TrackerEngine {
     }
 
     private void updateRates() {
-        for (GoalTracker tracker : state.getTrackers().values()) {
-            tracker.updateRate();
-        }
+        state.updateRates();
         if (xpCalculator != null) {
             this.cachedXpRate = xpCalculator.getItemsPerHour();
         }
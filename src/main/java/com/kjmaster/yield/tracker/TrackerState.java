@@ -1,34 +1,160 @@
 package com.kjmaster.yield.tracker;
 
-import net.minecraft.world.item.Item;
+import com.kjmaster.yield.project.ProjectGoal;
+import com.kjmaster.yield.project.RateMode;
+import com.kjmaster.yield.time.TimeSource;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Tracker storage for the active project.
+ * Goals are assigned dense integer slots (their index in the bound goal list) when the project is bound,
+ * so per-tick sync, per-frame lookups and result application are plain array accesses.
+ * <p>
+ * Logic is bound to the render/tick thread, so no synchronization is used.
+ */
 public class TrackerState {
-    // Replaced ConcurrentHashMap with HashMap for performance on the client thread.
-    // Logic is bound to the render/tick thread, so synchronization is unnecessary overhead.
-    private final Map<UUID, GoalTracker> trackers = new HashMap<>();
+    private static final int UNSET = -1;
 
-    // Optimization Caches
-    private final Map<Item, List<GoalTracker>> itemSpecificTrackers = new HashMap<>();
+    // Slot Binding (Slot == Index in boundGoals)
+    private List<ProjectGoal> boundGoals = List.of();
+    private GoalTracker[] trackers = new GoalTracker[0];
+    private final Object2IntMap<UUID> slotsById = new Object2IntOpenHashMap<>();
+
+    // Last applied count per slot
+    private int[] counts = new int[0];
+
+    // Trackers for goals outside the bound project (e.g. previewing another project in the dashboard)
+    private final Map<UUID, GoalTracker> detachedTrackers = new HashMap<>();
+
+    private RateMode rateMode = RateMode.WINDOW;
 
     private int lastTotalXp = -1;
 
+    public TrackerState() {
+        slotsById.defaultReturnValue(UNSET);
+    }
+
     public void clear() {
-        trackers.clear();
-        itemSpecificTrackers.clear();
+        boundGoals = List.of();
+        trackers = new GoalTracker[0];
+        slotsById.clear();
+        counts = new int[0];
+        detachedTrackers.clear();
+        rateMode = RateMode.WINDOW;
         lastTotalXp = -1;
     }
 
-    public Map<UUID, GoalTracker> getTrackers() {
-        return trackers;
+    /**
+     * Assigns slots to the given goals.
+     * Trackers (and their counts and rate history) are carried over for goals whose ID is unchanged,
+     * unless the rate mode changed, in which case only the counts survive.
+     */
+    public void bind(List<ProjectGoal> goals, TimeSource timeSource, RateMode rateMode) {
+        int size = goals.size();
+        GoalTracker[] newTrackers = new GoalTracker[size];
+        int[] newCounts = new int[size];
+
+        for (int slot = 0; slot < size; slot++) {
+            ProjectGoal goal = goals.get(slot);
+            int oldSlot = slotsById.getInt(goal.id());
+
+            if (oldSlot != UNSET) {
+                GoalTracker tracker = trackers[oldSlot];
+                if (tracker.getGoal() != goal) {
+                    tracker.updateGoalDefinition(goal);
+                }
+                tracker.setRateMode(rateMode);
+                newTrackers[slot] = tracker;
+                newCounts[slot] = counts[oldSlot];
+            } else {
+                GoalTracker detached = detachedTrackers.get(goal.id());
+                if (detached != null) {
+                    detached.setRateMode(rateMode);
+                    newTrackers[slot] = detached;
+                } else {
+                    newTrackers[slot] = new GoalTracker(goal, timeSource, rateMode);
+                }
+                newCounts[slot] = UNSET;
+            }
+        }
+
+        slotsById.clear();
+        for (int slot = 0; slot < size; slot++) {
+            slotsById.put(goals.get(slot).id(), slot);
+        }
+
+        this.boundGoals = goals;
+        this.trackers = newTrackers;
+        this.counts = newCounts;
+        this.rateMode = rateMode;
+        detachedTrackers.clear();
+    }
+
+    /**
+     * @return true if every slot is still bound to the exact goal instance at the same index.
+     */
+    public boolean isBoundTo(List<ProjectGoal> goals) {
+        if (goals == boundGoals) return true;
+        if (goals.size() != trackers.length) return false;
+        for (int slot = 0; slot < trackers.length; slot++) {
+            if (trackers[slot].getGoal() != goals.get(slot)) return false;
+        }
+        return true;
+    }
+
+    public RateMode getRateMode() {
+        return rateMode;
+    }
+
+    public int size() {
+        return trackers.length;
+    }
+
+    public GoalTracker getTracker(int slot) {
+        return trackers[slot];
+    }
+
+    /**
+     * Resolves a goal to its slot.
+     *
+     * @param slotHint The index the caller expects the goal at (e.g. its position in the goal list).
+     * @return The slot, or -1 if the goal is not bound.
+     */
+    public int slotOf(ProjectGoal goal, int slotHint) {
+        // Fast path: the caller iterates the bound goal list in order
+        if (slotHint >= 0 && slotHint < trackers.length && trackers[slotHint].getGoal() == goal) {
+            return slotHint;
+        }
+        return slotsById.getInt(goal.id());
+    }
+
+    public GoalTracker getDetachedTracker(ProjectGoal goal, TimeSource timeSource) {
+        GoalTracker tracker = detachedTrackers.computeIfAbsent(goal.id(), uuid -> new GoalTracker(goal, timeSource, rateMode));
+        if (tracker.getGoal() != goal) {
+            tracker.updateGoalDefinition(goal);
+        }
+        return tracker;
+    }
+
+    /**
+     * Pushes a new total into a slot, notifying the tracker only if the count actually changed.
+     */
+    public void applyCount(int slot, int count) {
+        if (counts[slot] == count) return;
+        counts[slot] = count;
+        trackers[slot].update(count);
     }
 
-    public Map<Item, List<GoalTracker>> getItemSpecificTrackers() {
-        return itemSpecificTrackers;
+    public void updateRates() {
+        for (int slot = 0; slot < trackers.length; slot++) {
+            trackers[slot].updateRate();
+        }
     }
 
     public int getLastTotalXp() {
@@ -38,4 +164,4 @@ public class TrackerState {
     public void setLastTotalXp(int lastTotalXp) {
         this.lastTotalXp = lastTotalXp;
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,31 @@
 package com.kjmaster.yield.util;
 
 import com.kjmaster.yield.project.ProjectGoal;
+import net.minecraft.core.component.DataComponentMap;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.component.TypedDataComponent;
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ItemMatcher {
     /**
      * Checks if the source stack matches the target goal.
      * Supports Tag, Strict (Masked), and Fuzzy matching.
+     * <p>
+     * Strict goals are compiled on every call; hot paths should hold a {@link StrictMatcher} instead.
      */
     public static boolean matches(ItemStack source, ProjectGoal goal) {
+        return matches(source, goal, null);
+    }
+
+    /**
+     * Checks if the source stack matches the target goal, using a precompiled strict matcher if available.
+     *
+     * @param strictMatcher Compiled matcher for {@code goal}, or null to compile on demand.
+     */
+    public static boolean matches(ItemStack source, ProjectGoal goal, StrictMatcher strictMatcher) {
         if (source.isEmpty()) return false;
 
         // 1. Tag Mode
@@ -32,41 +40,33 @@ public class ItemMatcher {
 
         // 3. Strict Mode (Masked)
         if (goal.strict()) {
-            return areComponentsEqualMasked(source, goal.getRenderStack(), goal.ignoredComponents());
+            StrictMatcher matcher = strictMatcher != null ? strictMatcher : StrictMatcher.compile(goal);
+            return matcher.matches(source);
         }
 
         // 4. Fuzzy Mode
         return true;
     }
 
-    private static boolean areComponentsEqualMasked(ItemStack a, ItemStack b, List<ResourceLocation> ignoredIds) {
-        // Fast path: Exact reference or full value equality (if no mask)
-        if (ignoredIds.isEmpty() && ItemStack.isSameItemSameComponents(a, b)) return true;
-
-        // Resolve ResourceLocations to ComponentTypes for faster lookup
-        Set<DataComponentType<?>> ignoredTypes = ignoredIds.stream()
-                .map(BuiltInRegistries.DATA_COMPONENT_TYPE::get)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        return checkContains(a, b, ignoredTypes) && checkContains(b, a, ignoredTypes);
+    public static boolean checkContains(ItemStack stackA, ItemStack stackB, Set<DataComponentType<?>> ignored) {
+        return checkContains(stackA.getComponents(), stackB.getComponents(), ignored);
     }
 
-    public static boolean checkContains(ItemStack stackA, ItemStack stackB, Set<DataComponentType<?>> ignored) {
-        for (TypedDataComponent<?> component : stackA.getComponents()) {
+    public static boolean checkContains(DataComponentMap mapA, DataComponentMap mapB, Set<DataComponentType<?>> ignored) {
+        for (TypedDataComponent<?> component : mapA) {
             DataComponentType<?> type = component.type();
 
             if (ignored.contains(type)) continue;
 
             // Check if B has this component
-            if (!stackB.has(type)) return false;
+            if (!mapB.has(type)) return false;
 
             // Value equality
             Object valueA = component.value();
-            Object valueB = stackB.get(type);
+            Object valueB = mapB.get(type);
 
             if (!Objects.equals(valueA, valueB)) return false;
         }
         return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.kjmaster.yield.util;
+
+import com.kjmaster.yield.project.ProjectGoal;
+import net.minecraft.core.component.DataComponentMap;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Strict (Masked) matcher compiled from a single goal definition.
+ * The ignored-component mask is resolved once into an identity set, and the reference component map is built once,
+ * so a comparison allocates nothing.
+ * <p>
+ * Since {@link ProjectGoal} is immutable, a compiled matcher stays valid for as long as the goal instance is in use.
+ */
+public class StrictMatcher {
+
+    private final ProjectGoal goal;
+    private final DataComponentMap reference;
+    private final DataComponentPatch referencePatch;
+    private final Set<DataComponentType<?>> ignoredTypes;
+
+    private StrictMatcher(ProjectGoal goal, DataComponentMap reference, DataComponentPatch referencePatch, Set<DataComponentType<?>> ignoredTypes) {
+        this.goal = goal;
+        this.reference = reference;
+        this.referencePatch = referencePatch;
+        this.ignoredTypes = ignoredTypes;
+    }
+
+    public static StrictMatcher compile(ProjectGoal goal) {
+        // The render stack is private to this matcher and never mutated, so its component map is safe to share
+        ItemStack renderStack = goal.getRenderStack();
+        DataComponentMap reference = renderStack.getComponents();
+        DataComponentPatch referencePatch = renderStack.getComponentsPatch();
+
+        Set<DataComponentType<?>> ignored = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ResourceLocation id : goal.ignoredComponents()) {
+            DataComponentType<?> type = BuiltInRegistries.DATA_COMPONENT_TYPE.get(id);
+            if (type != null) ignored.add(type);
+        }
+
+        return new StrictMatcher(goal, reference, referencePatch, ignored.isEmpty() ? Collections.emptySet() : ignored);
+    }
+
+    /**
+     * @return true if this matcher was compiled from this exact goal instance.
+     */
+    public boolean isCompiledFrom(ProjectGoal other) {
+        return this.goal == other;
+    }
+
+    /**
+     * Compares the source components against the goal's components, skipping masked types.
+     * Callers are expected to have checked the base item already.
+     */
+    public boolean matches(ItemStack source) {
+        DataComponentMap components = source.getComponents();
+
+        // Fast path: Full value equality (if no mask)
+        if (ignoredTypes.isEmpty() && components.equals(reference)) return true;
+
+        return ItemMatcher.checkContains(components, reference, ignoredTypes)
+                && ItemMatcher.checkContains(reference, components, ignoredTypes);
+    }
+
+    /**
+     * Same comparison as {@link #matches(ItemStack)}, for a captured stack of the goal's item.
+     * Both sides share the item's default components, so only the types present in either patch can differ.
+     *
+     * @param patch The stack's component patch, or null if it has only its default components.
+     */
+    public boolean matches(Item item, @Nullable DataComponentPatch patch) {
+        DataComponentPatch source = patch != null ? patch : DataComponentPatch.EMPTY;
+
+        // Fast path: Patches are normalized against the same defaults, so equal patches mean equal components
+        if (ignoredTypes.isEmpty()) return source.equals(referencePatch);
+
+        DataComponentMap defaults = item.components();
+        return patchContains(source, referencePatch, defaults) && patchContains(referencePatch, source, defaults);
+    }
+
+    private boolean patchContains(DataComponentPatch patchA, DataComponentPatch patchB, DataComponentMap defaults) {
+        for (Map.Entry<DataComponentType<?>, Optional<?>> entry : patchA.entrySet()) {
+            DataComponentType<?> type = entry.getKey();
+
+            if (ignoredTypes.contains(type)) continue;
+
+            // Value equality against B's effective value (A's Optional is empty if A removed the component)
+            if (!Objects.equals(entry.getValue().orElse(null), effectiveValue(patchB, type, defaults))) return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Object effectiveValue(DataComponentPatch patch, DataComponentType<?> type, DataComponentMap defaults) {
+        Optional<?> patched = patch.get(type);
+        return patched != null ? patched.orElse(null) : defaults.get(type);
+    }
+}